@@ -1,5 +1,7 @@
 package com.reliaquest.api.config;
 
+import java.time.Duration;
+import java.util.List;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +16,48 @@ public class AppConfig {
     @Value("${employee.base-url}")
     private String employeeServiceBaseUrl;
 
+    /**
+     * Base URLs of upstream shards; when empty {@link #employeeServiceBaseUrl} is the only upstream.
+     */
+    @Value("${employee.base-urls:}")
+    private List<String> employeeServiceBaseUrls;
+
     @Value("${employee.resource-url}")
     private String employeeServiceResourceUrl;
+
+    @Value("${employee.wire-format:json}")
+    private WireFormat employeeServiceWireFormat;
+
+    /**
+     * Use cleartext HTTP/2 to the employee service, multiplexing concurrent calls over few connections.
+     */
+    @Value("${employee.http2.enabled:false}")
+    private boolean employeeServiceHttp2Enabled;
+
+    /**
+     * Open HTTP/2 connections directly instead of upgrading from HTTP/1.1; only for servers known to speak h2c.
+     */
+    @Value("${employee.http2.prior-knowledge:false}")
+    private boolean employeeServiceHttp2PriorKnowledge;
+
+    @Value("${employee.http.max-connections:16}")
+    private int employeeServiceMaxConnections;
+
+    /**
+     * Upper bound on waiting for an upstream response. Applies to the synchronous lookups and writes, which cannot
+     * use a resilience4j time limiter. Set on the request/response client only; the change feed streams, which may be
+     * silent between heartbeats, use a client without it.
+     */
+    @Value("${employee.http.response-timeout:5s}")
+    private Duration employeeServiceResponseTimeout;
+
+    @Value("${employee.roster.ttl:30s}")
+    private Duration rosterTtl;
+
+    /**
+     * Minimum time between background refreshes of a roster restored from the local snapshot, so that an unreachable
+     * employee service is not retried on every request.
+     */
+    @Value("${employee.roster.revalidate-interval:5s}")
+    private Duration rosterRevalidateInterval;
 }
@@ -0,0 +1,74 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.service.remote.RetryBudget;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.IntervalBiFunction;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Puts the resilience4j retry instances on the shared {@link RetryBudget}. The instances keep their attempt limits in
+ * application.yml; which failures are retryable, whether the budget allows it and how long to wait are decided here.
+ * A 429 whose Retry-After exceeds the maximum retry delay fails fast, and its Retry-After is passed on to the client.
+ */
+@Configuration
+public class RetryBudgetConfig {
+
+    @Bean
+    public RetryConfigCustomizer employeeListRetryCustomizer(RetryBudget retryBudget) {
+        return budgeted("employeeList", retryBudget, RetryBudgetConfig::isRetryableRead);
+    }
+
+    @Bean
+    public RetryConfigCustomizer employeeLookupRetryCustomizer(RetryBudget retryBudget) {
+        return budgeted("employeeLookup", retryBudget, RetryBudgetConfig::isRetryableRead);
+    }
+
+    /*
+     * Writes are not idempotent: only requests the upstream rejected without processing are sent again.
+     */
+    @Bean
+    public RetryConfigCustomizer employeeWriteRetryCustomizer(RetryBudget retryBudget) {
+        return budgeted("employeeWrite", retryBudget, TooManyRequestsException.class::isInstance);
+    }
+
+    /*
+     * The exception predicate is also evaluated on the last attempt, when no retry follows, so it only checks the
+     * budget; the retry is withdrawn by the interval function, which resilience4j calls only when it schedules one. The
+     * delay is at least 1ms since async retries treat a delay below that as giving up.
+     */
+    private static RetryConfigCustomizer budgeted(
+            String instanceName, RetryBudget retryBudget, Predicate<Throwable> retryable) {
+        IntervalBiFunction<Object> backoff = (attempt, outcome) -> {
+            retryBudget.withdraw();
+            return Math.max(
+                    1, retryBudget.backoffMillis(attempt, outcome.isLeft() ? retryAfterOf(outcome.getLeft()) : null));
+        };
+        Predicate<Throwable> retryOnException = throwable -> retryable.test(unwrap(throwable))
+                && retryBudget.canWait(retryAfterOf(throwable))
+                && retryBudget.hasRetry();
+        return RetryConfigCustomizer.of(instanceName, builder -> builder.retryOnException(retryOnException)
+                .intervalBiFunction(backoff));
+    }
+
+    private static boolean isRetryableRead(Throwable throwable) {
+        return !(throwable instanceof EmployeeNotFoundException);
+    }
+
+    private static Duration retryAfterOf(Throwable throwable) {
+        return unwrap(throwable) instanceof TooManyRequestsException tooManyRequests
+                ? tooManyRequests.getRetryAfter().orElse(null)
+                : null;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.controller.EmployeeController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup configuration
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * With lazy initialization (fast-startup profile) the controller, and through it every bean that serves employee
+     * requests, is still created at startup so the first request does not pay for it. API docs, the change feed and
+     * other non-critical beans are created on first use.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter employeeRequestPathExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EmployeeController.class);
+    }
+}
@@ -4,9 +4,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * WebClient configuration
@@ -15,13 +22,62 @@ import org.springframework.web.reactive.function.client.WebClient;
 @RequiredArgsConstructor
 public class WebClientConfig {
 
+    static final String SMILE_ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+
     private final AppConfig appConfig;
 
+    /**
+     * Primary, as Lombok-generated constructors do not carry the {@code @Qualifier} of the field they inject.
+     */
     @Bean
+    @Primary
     @Qualifier("employeeServiceClient") public WebClient employeeServiceClient() {
-        return WebClient.builder()
+        WebClient.Builder builder = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(employeeServiceHttpClient()))
                 .baseUrl(appConfig.getEmployeeServiceBaseUrl())
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        if (appConfig.getEmployeeServiceWireFormat() == WireFormat.SMILE) {
+            builder.defaultHeader(HttpHeaders.ACCEPT, SMILE_ACCEPT).codecs(codecs -> codecs.customCodecs()
+                    .register(new Jackson2SmileDecoder(
+                            Jackson2ObjectMapperBuilder.smile().build())));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Client for the long-lived streams of the change feed subscriber, with its own small connection pool and no
+     * response timeout, as the server may stay silent between heartbeats.
+     */
+    @Bean
+    @Qualifier("employeeChangeFeedClient") public WebClient employeeChangeFeedClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("employee-change-feed")
+                .maxConnections(
+                        Math.max(1, appConfig.getEmployeeServiceBaseUrls().size()))
+                .build();
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(
+                        HttpClient.create(connectionProvider).protocol(HttpProtocol.HTTP11)))
+                .build();
+    }
+
+    /**
+     * HTTP/1.1 by default. With HTTP/2 enabled the client offers h2c through an HTTP/1.1 upgrade and keeps HTTP/1.1 as
+     * fallback, or speaks h2c straight away with prior knowledge. Over HTTP/2 concurrent calls share connections as
+     * streams, so the pool needs far fewer connections. Every call is bounded by the configured response timeout, so
+     * this client must not be used for streaming responses such as the change feed.
+     */
+    private HttpClient employeeServiceHttpClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("employee-service")
+                .maxConnections(appConfig.getEmployeeServiceMaxConnections())
                 .build();
+        HttpClient httpClient =
+                HttpClient.create(connectionProvider).responseTimeout(appConfig.getEmployeeServiceResponseTimeout());
+        if (!appConfig.isEmployeeServiceHttp2Enabled()) {
+            return httpClient.protocol(HttpProtocol.HTTP11);
+        }
+        if (appConfig.isEmployeeServiceHttp2PriorKnowledge()) {
+            return httpClient.protocol(HttpProtocol.H2C);
+        }
+        return httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
     }
 }
@@ -0,0 +1,15 @@
+package com.reliaquest.api.config;
+
+/**
+ * Response format requested from the remote employee service. Requests are always sent as JSON.
+ */
+public enum WireFormat {
+    /**
+     * Plain JSON, understood by every server.
+     */
+    JSON,
+    /**
+     * Binary Smile encoding of the same Jackson model, with JSON accepted as a fallback.
+     */
+    SMILE
+}
@@ -1,7 +1,16 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.model.EmployeeCacheStatsDto;
+import com.reliaquest.api.model.EmployeeCreationStatusDto;
 import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeFilterRequestDto;
+import com.reliaquest.api.model.EmployeeFilterResultDto;
+import com.reliaquest.api.model.EmployeeGroupStatsDto;
+import com.reliaquest.api.model.EmployeeIdsRequestDto;
+import com.reliaquest.api.model.EmployeeIdsResultDto;
 import com.reliaquest.api.model.EmployeeRequestDto;
+import com.reliaquest.api.model.SalaryBucketDto;
+import com.reliaquest.api.model.SalaryPercentileDto;
 import com.reliaquest.api.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,6 +18,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +26,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -137,6 +149,32 @@ public class EmployeeController implements IEmployeeController<EmployeeDto, Empl
         return ResponseEntity.status(HttpStatus.OK).body(employeeDtoList);
     }
 
+    /**
+     * Complete employee names for a typeahead.
+     */
+    @Operation(summary = "Complete employee names starting with a prefix, highest earners first")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Completed the employee names",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Empty prefix or invalid limit", content = @Content)
+            })
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<EmployeeDto>> completeEmployeeNames(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        log.debug("API request to complete employee names: {}", prefix);
+
+        List<EmployeeDto> completions = employeeService.completeEmployeeNames(prefix, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(completions);
+    }
+
     /**
      * Create a new employee.
      */
@@ -160,6 +198,59 @@ public class EmployeeController implements IEmployeeController<EmployeeDto, Empl
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
     }
 
+    /**
+     * Queue an employee creation and return immediately.
+     */
+    @Operation(summary = "Queue a new employee for asynchronous creation")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "202",
+                        description = "Employee creation queued, poll the Location header for its status",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeCreationStatusDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid employee data", content = @Content),
+                @ApiResponse(responseCode = "404", description = "Async creation is disabled", content = @Content)
+            })
+    @PostMapping("/async")
+    public ResponseEntity<EmployeeCreationStatusDto> submitEmployeeCreation(
+            @org.springframework.web.bind.annotation.RequestBody EmployeeRequestDto employeeInput) {
+        log.info("API request to queue employee creation");
+
+        EmployeeCreationStatusDto status = employeeService.submitEmployeeCreation(employeeInput);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/employee/async/" + status.getTrackingId()))
+                .body(status);
+    }
+
+    /**
+     * Get the status of a queued employee creation.
+     */
+    @Operation(summary = "Get the status of a queued employee creation")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Found the employee creation",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeCreationStatusDto.class))
+                        }),
+                @ApiResponse(responseCode = "404", description = "Unknown tracking id", content = @Content)
+            })
+    @GetMapping("/async/{trackingId}")
+    public ResponseEntity<EmployeeCreationStatusDto> getEmployeeCreationStatus(
+            @PathVariable("trackingId") String trackingId) {
+        log.info("API request to get employee creation status: {}", trackingId);
+
+        EmployeeCreationStatusDto status = employeeService.getEmployeeCreationStatus(trackingId);
+        return ResponseEntity.status(HttpStatus.OK).body(status);
+    }
+
     /**
      * Delete an employee by ID.
      */
@@ -179,4 +270,224 @@ public class EmployeeController implements IEmployeeController<EmployeeDto, Empl
         String response = employeeService.deleteEmployeeById(id);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    /**
+     * Get salaries at the requested percentiles.
+     */
+    @Operation(summary = "Get salaries at the requested percentiles")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Retrieved salary percentiles",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SalaryPercentileDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid percentile", content = @Content)
+            })
+    @GetMapping("/salary/percentiles")
+    public ResponseEntity<List<SalaryPercentileDto>> getSalaryPercentiles(
+            @RequestParam(name = "p", defaultValue = "50,90,95,99") List<Double> percentiles) {
+        log.info("API request to get salary percentiles: {}", percentiles);
+
+        List<SalaryPercentileDto> salaryPercentiles = employeeService.getSalaryPercentiles(percentiles);
+        return ResponseEntity.status(HttpStatus.OK).body(salaryPercentiles);
+    }
+
+    /**
+     * Get salary histogram.
+     */
+    @Operation(summary = "Get salary histogram with equal width buckets")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Retrieved salary histogram",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SalaryBucketDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid number of buckets", content = @Content)
+            })
+    @GetMapping("/salary/histogram")
+    public ResponseEntity<List<SalaryBucketDto>> getSalaryHistogram(
+            @RequestParam(name = "buckets", defaultValue = "10") int buckets) {
+        log.info("API request to get salary histogram with {} buckets", buckets);
+
+        List<SalaryBucketDto> histogram = employeeService.getSalaryHistogram(buckets);
+        return ResponseEntity.status(HttpStatus.OK).body(histogram);
+    }
+
+    /**
+     * Count employees within a salary range.
+     */
+    @Operation(summary = "Count employees with salary in [min, max]")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Counted employees within the salary range",
+                        content = @Content(mediaType = "application/json")),
+                @ApiResponse(responseCode = "400", description = "Invalid salary range", content = @Content)
+            })
+    @GetMapping("/salary/range/count")
+    public ResponseEntity<Integer> countEmployeesBySalaryRange(
+            @RequestParam(name = "min", defaultValue = "0") int minSalary,
+            @RequestParam(name = "max", defaultValue = "" + Integer.MAX_VALUE) int maxSalary) {
+        log.info("API request to count employees with salary between {} and {}", minSalary, maxSalary);
+
+        int count = employeeService.countEmployeesBySalaryRange(minSalary, maxSalary);
+        return ResponseEntity.status(HttpStatus.OK).body(count);
+    }
+
+    /**
+     * Get employees within a salary range.
+     */
+    @Operation(summary = "Get employees with salary in [min, max]")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Found the employees within the salary range",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid salary range", content = @Content)
+            })
+    @GetMapping("/salary/range")
+    public ResponseEntity<List<EmployeeDto>> getEmployeesBySalaryRange(
+            @RequestParam(name = "min", defaultValue = "0") int minSalary,
+            @RequestParam(name = "max", defaultValue = "" + Integer.MAX_VALUE) int maxSalary) {
+        log.info("API request to get employees with salary between {} and {}", minSalary, maxSalary);
+
+        List<EmployeeDto> employeeDtoList = employeeService.getEmployeesBySalaryRange(minSalary, maxSalary);
+        return ResponseEntity.status(HttpStatus.OK).body(employeeDtoList);
+    }
+
+    /**
+     * Filter employees by title, email domain, age range and salary range.
+     */
+    @Operation(summary = "Filter employees by title, email domain, age range and salary range")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Filtered the employees",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeFilterResultDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid filter", content = @Content)
+            })
+    @GetMapping("/filter")
+    public ResponseEntity<EmployeeFilterResultDto> filterEmployees(@ModelAttribute EmployeeFilterRequestDto filter) {
+        log.info("API request to filter employees: {}", filter);
+
+        EmployeeFilterResultDto result = employeeService.filterEmployees(filter);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    /**
+     * Get headcount and salary statistics per title.
+     */
+    @Operation(summary = "Get headcount, salary sum, average, maximum and top earners per title")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Aggregated the roster per title",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeGroupStatsDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid number of top earners", content = @Content)
+            })
+    @GetMapping("/analytics/titles")
+    public ResponseEntity<List<EmployeeGroupStatsDto>> getStatsByTitle(
+            @RequestParam(name = "top", defaultValue = "3") int topEarners) {
+        log.info("API request to get employee statistics per title");
+
+        List<EmployeeGroupStatsDto> stats = employeeService.getStatsByTitle(topEarners);
+        return ResponseEntity.status(HttpStatus.OK).body(stats);
+    }
+
+    /**
+     * Get headcount and salary statistics per age band.
+     */
+    @Operation(summary = "Get headcount, salary sum, average, maximum and top earners per age band")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Aggregated the roster per age band",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeGroupStatsDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid number of top earners", content = @Content)
+            })
+    @GetMapping("/analytics/age-bands")
+    public ResponseEntity<List<EmployeeGroupStatsDto>> getStatsByAgeBand(
+            @RequestParam(name = "top", defaultValue = "3") int topEarners) {
+        log.info("API request to get employee statistics per age band");
+
+        List<EmployeeGroupStatsDto> stats = employeeService.getStatsByAgeBand(topEarners);
+        return ResponseEntity.status(HttpStatus.OK).body(stats);
+    }
+
+    /**
+     * Get several employees by id in one call.
+     */
+    @Operation(summary = "Get several employees by id in one call")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Found the employees, listing the ids that do not exist",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeIdsResultDto.class))
+                        }),
+                @ApiResponse(responseCode = "400", description = "Invalid or too many ids", content = @Content)
+            })
+    @PostMapping("/ids")
+    public ResponseEntity<EmployeeIdsResultDto> getEmployeesByIds(
+            @org.springframework.web.bind.annotation.RequestBody EmployeeIdsRequestDto request) {
+        log.info("API request to get employees by ids");
+
+        EmployeeIdsResultDto result = employeeService.getEmployeesByIds(request);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    /**
+     * Get statistics of the per-id employee cache.
+     */
+    @Operation(summary = "Get statistics of the per-id employee cache")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Retrieved cache statistics",
+                        content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeCacheStatsDto.class))
+                        })
+            })
+    @GetMapping("/cache/stats")
+    public ResponseEntity<EmployeeCacheStatsDto> getEmployeeCacheStats() {
+        log.info("API request to get employee cache statistics");
+
+        EmployeeCacheStatsDto stats = employeeService.getEmployeeCacheStats();
+        return ResponseEntity.status(HttpStatus.OK).body(stats);
+    }
 }
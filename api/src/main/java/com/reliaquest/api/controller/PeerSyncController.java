@@ -0,0 +1,39 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.FeatureDisabledException;
+import com.reliaquest.api.model.EmployeeDeltaDto;
+import com.reliaquest.api.service.peer.EmployeePeerSync;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Receives roster deltas from peer api instances; see {@link EmployeePeerSync}. Answers 404 unless peer sync is
+ * enabled.
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+public class PeerSyncController {
+
+    private final EmployeePeerSync employeePeerSync;
+
+    @PostMapping(EmployeePeerSync.PATH)
+    public ResponseEntity<Void> applyDelta(
+            @RequestHeader(value = EmployeePeerSync.TOKEN_HEADER, required = false) String token,
+            @RequestBody EmployeeDeltaDto delta) {
+        if (!employeePeerSync.isEnabled()) {
+            throw new FeatureDisabledException("Peer sync is not enabled");
+        }
+        if (!employeePeerSync.isAuthorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        employeePeerSync.apply(delta);
+        return ResponseEntity.noContent().build();
+    }
+}
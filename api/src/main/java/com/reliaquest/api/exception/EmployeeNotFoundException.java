@@ -1,8 +1,17 @@
 package com.reliaquest.api.exception;
 
+/**
+ * Expected outcome of lookups for unknown employees, so it is thrown without a stack trace.
+ */
 public class EmployeeNotFoundException extends RuntimeException {
 
+    /**
+     * Shared instance for the constant upstream not-found case; safe to rethrow as it carries no mutable state.
+     */
+    public static final EmployeeNotFoundException EMPLOYEE_NOT_FOUND =
+            new EmployeeNotFoundException("Employee not found");
+
     public EmployeeNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Request for an optional endpoint that is switched off in this deployment, mapped to 404 Not Found. Thrown without a
+ * stack trace as it says nothing about the caller's input.
+ */
+public class FeatureDisabledException extends RuntimeException {
+
+    public FeatureDisabledException(String message) {
+        super(message, null, false, false);
+    }
+}
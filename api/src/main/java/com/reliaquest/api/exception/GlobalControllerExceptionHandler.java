@@ -2,8 +2,10 @@ package com.reliaquest.api.exception;
 
 import com.reliaquest.api.model.APIError;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -27,6 +29,22 @@ public class GlobalControllerExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(apiError);
     }
 
+    @ExceptionHandler(FeatureDisabledException.class)
+    public ResponseEntity<APIError> handleFeatureDisabledException(FeatureDisabledException ex) {
+        APIError apiError = new APIError();
+        apiError.setError(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(apiError);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<APIError> handleInvalidRequestException(InvalidRequestException ex) {
+        APIError apiError = new APIError();
+        apiError.setError(ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(apiError);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<APIError> handleEmployeeNotFoundException(IllegalArgumentException ex) {
         APIError apiError = new APIError();
@@ -35,12 +53,24 @@ public class GlobalControllerExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(apiError);
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<APIError> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        APIError apiError = new APIError();
+        apiError.setError("Request body is malformed or has a value of the wrong type");
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(apiError);
+    }
+
     @ExceptionHandler(TooManyRequestsException.class)
     public ResponseEntity<APIError> handleTooManyRequestsException(TooManyRequestsException ex) {
         APIError apiError = new APIError();
         apiError.setError(ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(apiError);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        ex.getRetryAfter()
+                .ifPresent(retryAfter ->
+                        response.header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfter.toSeconds()))));
+        return response.body(apiError);
     }
 
     @ExceptionHandler(Exception.class)
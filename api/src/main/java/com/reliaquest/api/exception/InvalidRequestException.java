@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Rejected client input, mapped to 400 Bad Request. Thrown on expected bad traffic, so no stack trace is captured.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
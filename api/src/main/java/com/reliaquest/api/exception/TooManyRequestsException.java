@@ -1,8 +1,39 @@
 package com.reliaquest.api.exception;
 
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Upstream rate limiting, thrown without a stack trace as it is expected under load. Carries the upstream's
+ * {@code Retry-After} when it sent one.
+ */
 public class TooManyRequestsException extends RuntimeException {
 
+    public static final TooManyRequestsException MAX_RETRIES_EXCEEDED =
+            new TooManyRequestsException("Max retries exceeded: 429 Too Many Requests");
+
+    private final Duration retryAfter;
+
     public TooManyRequestsException(String message) {
-        super(message);
+        this(message, null);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @param retryAfter delay requested by the upstream, or {@code null}
+     * @return {@link #MAX_RETRIES_EXCEEDED} when no delay was requested
+     */
+    public static TooManyRequestsException retryAfter(Duration retryAfter) {
+        return retryAfter == null
+                ? MAX_RETRIES_EXCEEDED
+                : new TooManyRequestsException(MAX_RETRIES_EXCEEDED.getMessage(), retryAfter);
+    }
+
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
     }
 }
@@ -0,0 +1,42 @@
+package com.reliaquest.api.model;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of an asynchronous employee creation, looked up by its tracking id.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeCreationStatusDto {
+
+    private UUID trackingId;
+
+    private State state;
+
+    private Instant submittedAt;
+
+    private int attempts;
+
+    /**
+     * The created employee, once {@link State#CREATED}.
+     */
+    private EmployeeDto employee;
+
+    /**
+     * Last failure, once {@link State#FAILED}.
+     */
+    private String error;
+
+    public enum State {
+        QUEUED,
+        CREATED,
+        FAILED
+    }
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.api.model;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Roster mutation made through one api instance, sent to its peers. {@code employee} is only set for creations.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeDeltaDto {
+
+    /**
+     * Node id of the instance that made the mutation.
+     */
+    private String origin;
+
+    private Type type;
+
+    private UUID id;
+
+    private EmployeeDto employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -1,15 +1,26 @@
 package com.reliaquest.api.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.reliaquest.api.model.json.EmployeeDtoDeserializer;
+import com.reliaquest.api.model.json.EmployeeDtoSerializer;
 import java.util.UUID;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
- *
+ * Employee as exchanged with the remote employee service and api clients. JSON binding is hand written (see
+ * {@link EmployeeDtoSerializer}); the {@code @JsonProperty} names document the wire format and must match it.
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonSerialize(using = EmployeeDtoSerializer.class)
+@JsonDeserialize(using = EmployeeDtoDeserializer.class)
 public class EmployeeDto {
 
     @JsonProperty("id")
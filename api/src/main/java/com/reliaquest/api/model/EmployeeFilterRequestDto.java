@@ -0,0 +1,30 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional predicates for filtering employees; unset predicates match every employee
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeFilterRequestDto {
+
+    private String title;
+
+    private String emailDomain;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer limit;
+}
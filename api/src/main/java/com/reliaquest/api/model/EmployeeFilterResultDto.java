@@ -0,0 +1,21 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Employees matching a filter, limited to the requested page size
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeFilterResultDto {
+
+    private int total;
+
+    private List<EmployeeDto> employees;
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Headcount and salary statistics of one group of employees; {@code group} is null for employees without a value
+ */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeGroupStatsDto {
+
+    private String group;
+
+    private int headcount;
+
+    private long salarySum;
+
+    private Double averageSalary;
+
+    private Integer maxSalary;
+
+    private List<EmployeeDto> topEarners;
+}
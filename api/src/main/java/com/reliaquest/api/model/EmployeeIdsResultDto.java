@@ -0,0 +1,21 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Employees found for a batch lookup, in request order, and the requested ids that do not exist
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeIdsResultDto {
+
+    private List<EmployeeDto> employees;
+
+    private List<String> notFound;
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Histogram bucket covering salaries in [lowerBound, upperBound]
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryBucketDto {
+
+    private int lowerBound;
+
+    private int upperBound;
+
+    private int count;
+}
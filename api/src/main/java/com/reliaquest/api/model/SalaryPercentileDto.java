@@ -0,0 +1,20 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Salary at a given percentile of the roster
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryPercentileDto {
+
+    private double percentile;
+
+    private Integer salary;
+}
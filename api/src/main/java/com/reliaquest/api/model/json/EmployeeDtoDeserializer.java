@@ -0,0 +1,91 @@
+package com.reliaquest.api.model.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.reliaquest.api.model.EmployeeDto;
+import java.io.IOException;
+
+/**
+ * Streams {@link EmployeeDto} straight from the parser. Unknown fields are skipped.
+ */
+public class EmployeeDtoDeserializer extends StdDeserializer<EmployeeDto> {
+
+    public EmployeeDtoDeserializer() {
+        super(EmployeeDto.class);
+    }
+
+    @Override
+    public EmployeeDto deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return read(parser, context);
+    }
+
+    /**
+     * Reads an employee object starting at the current token, or null for JSON null.
+     */
+    static EmployeeDto read(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        EmployeeDto employee = new EmployeeDto();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> employee.setId(JsonUuids.read(parser));
+                case "employee_name" -> employee.setEmployeeName(readString(parser, context));
+                case "employee_salary" -> employee.setEmployeeSalary(readInteger(parser, context));
+                case "employee_age" -> employee.setEmployeeAge(readInteger(parser, context));
+                case "employee_title" -> employee.setEmployeeTitle(readString(parser, context));
+                case "employee_email" -> employee.setEmail(readString(parser, context));
+                default -> parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            return (EmployeeDto) context.handleUnexpectedToken(EmployeeDto.class, parser);
+        }
+        return employee;
+    }
+
+    /*
+     * Scalars are coerced to text like bean binding does. Objects and arrays are a mapping error: returning null for
+     * them would leave the parser inside the value and misread the fields after it.
+     */
+    private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        return (String) context.handleUnexpectedToken(String.class, parser);
+    }
+
+    private static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_STRING -> parseInteger(parser, context);
+            default -> (Integer) context.handleUnexpectedToken(Integer.class, parser);
+        };
+    }
+
+    /*
+     * Quoted numbers are accepted like bean binding does; anything else is reported as a mapping error, which reaches
+     * clients as a bad request rather than escaping as a raw NumberFormatException.
+     */
+    private static Integer parseInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        String text = parser.getText().trim();
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException ex) {
+            throw context.weirdStringException(text, Integer.class, "not a valid integer");
+        }
+    }
+}
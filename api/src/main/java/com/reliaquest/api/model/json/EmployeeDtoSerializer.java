@@ -0,0 +1,60 @@
+package com.reliaquest.api.model.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.api.model.EmployeeDto;
+import java.io.IOException;
+
+/**
+ * Writes {@link EmployeeDto} with pre-encoded field names, producing the same output as bean serialization of its
+ * {@code @JsonProperty} mapping.
+ */
+public class EmployeeDtoSerializer extends StdSerializer<EmployeeDto> {
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString NAME = new SerializedString("employee_name");
+    static final SerializedString SALARY = new SerializedString("employee_salary");
+    static final SerializedString AGE = new SerializedString("employee_age");
+    static final SerializedString TITLE = new SerializedString("employee_title");
+    static final SerializedString EMAIL = new SerializedString("employee_email");
+
+    public EmployeeDtoSerializer() {
+        super(EmployeeDto.class);
+    }
+
+    @Override
+    public void serialize(EmployeeDto employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(employee, gen);
+    }
+
+    static void write(EmployeeDto employee, JsonGenerator gen) throws IOException {
+        gen.writeStartObject(employee);
+        gen.writeFieldName(ID);
+        if (employee.getId() == null) {
+            gen.writeNull();
+        } else {
+            JsonUuids.write(employee.getId(), gen);
+        }
+        gen.writeFieldName(NAME);
+        gen.writeString(employee.getEmployeeName());
+        gen.writeFieldName(SALARY);
+        writeInteger(employee.getEmployeeSalary(), gen);
+        gen.writeFieldName(AGE);
+        writeInteger(employee.getEmployeeAge(), gen);
+        gen.writeFieldName(TITLE);
+        gen.writeString(employee.getEmployeeTitle());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(employee.getEmail());
+        gen.writeEndObject();
+    }
+
+    private static void writeInteger(Integer value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.model.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the full-roster response of the remote employee service. Unknown fields, such as {@code error}, are
+ * skipped.
+ */
+public class GetAllEmployeesResponseDtoDeserializer extends StdDeserializer<GetAllEmployeesResponseDto> {
+
+    public GetAllEmployeesResponseDtoDeserializer() {
+        super(GetAllEmployeesResponseDto.class);
+    }
+
+    @Override
+    public GetAllEmployeesResponseDto deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        GetAllEmployeesResponseDto response = new GetAllEmployeesResponseDto();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "data" -> response.setData(readEmployees(parser, context));
+                case "status" -> response.setStatus(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            return (GetAllEmployeesResponseDto) context.handleUnexpectedToken(GetAllEmployeesResponseDto.class, parser);
+        }
+        return response;
+    }
+
+    private static List<EmployeeDto> readEmployees(JsonParser parser, DeserializationContext context)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            @SuppressWarnings("unchecked")
+            List<EmployeeDto> unexpected = (List<EmployeeDto>) context.handleUnexpectedToken(List.class, parser);
+            return unexpected;
+        }
+        List<EmployeeDto> employees = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            employees.add(EmployeeDtoDeserializer.read(parser, context));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.api.model.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes the full-roster response, serializing its employees inline with {@link EmployeeDtoSerializer}.
+ */
+public class GetAllEmployeesResponseDtoSerializer extends StdSerializer<GetAllEmployeesResponseDto> {
+
+    static final SerializedString DATA = new SerializedString("data");
+    static final SerializedString STATUS = new SerializedString("status");
+
+    public GetAllEmployeesResponseDtoSerializer() {
+        super(GetAllEmployeesResponseDto.class);
+    }
+
+    @Override
+    public void serialize(GetAllEmployeesResponseDto response, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(response);
+        gen.writeFieldName(DATA);
+        List<EmployeeDto> employees = response.getData();
+        if (employees == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(employees, employees.size());
+            for (EmployeeDto employee : employees) {
+                if (employee == null) {
+                    gen.writeNull();
+                } else {
+                    EmployeeDtoSerializer.write(employee, gen);
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeFieldName(STATUS);
+        gen.writeString(response.getStatus());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.model.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.UUID;
+
+/**
+ * Reads and writes UUIDs in their canonical 36 character form without going through intermediate strings.
+ */
+final class JsonUuids {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int LENGTH = 36;
+
+    private JsonUuids() {}
+
+    static void write(UUID id, JsonGenerator gen) throws IOException {
+        char[] chars = new char[LENGTH];
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        appendHex(chars, 0, msb >>> 32, 8);
+        chars[8] = '-';
+        appendHex(chars, 9, msb >>> 16, 4);
+        chars[13] = '-';
+        appendHex(chars, 14, msb, 4);
+        chars[18] = '-';
+        appendHex(chars, 19, lsb >>> 48, 4);
+        chars[23] = '-';
+        appendHex(chars, 24, lsb, 12);
+        gen.writeString(chars, 0, LENGTH);
+    }
+
+    /**
+     * Reads the current token as a UUID, returning null for JSON null.
+     */
+    static UUID read(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new IOException("Expected UUID string but found " + parser.currentToken());
+        }
+        if (parser.hasTextCharacters()) {
+            UUID id = parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            if (id != null) {
+                return id;
+            }
+        }
+        return UUID.fromString(parser.getText());
+    }
+
+    /**
+     * Parses the canonical form, or returns null so that the caller can fall back to {@link UUID#fromString}.
+     */
+    static UUID parse(char[] chars, int offset, int length) {
+        return UuidParser.parseOrNull(CharBuffer.wrap(chars, offset, length));
+    }
+
+    private static void appendHex(char[] chars, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
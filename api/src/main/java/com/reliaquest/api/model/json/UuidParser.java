@@ -0,0 +1,50 @@
+package com.reliaquest.api.model.json;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Parses UUIDs without throwing, so malformed ids cost no more than well-formed ones. Only the canonical 36 character
+ * form (any hex case) is accepted, which is what the employee service issues.
+ */
+public final class UuidParser {
+
+    private static final int LENGTH = 36;
+
+    private UuidParser() {}
+
+    public static Optional<UUID> parse(CharSequence text) {
+        return Optional.ofNullable(parseOrNull(text));
+    }
+
+    /**
+     * @return the UUID, or null when {@code text} is null or not a canonical UUID
+     */
+    public static UUID parseOrNull(CharSequence text) {
+        if (text == null
+                || text.length() != LENGTH
+                || text.charAt(8) != '-'
+                || text.charAt(13) != '-'
+                || text.charAt(18) != '-'
+                || text.charAt(23) != '-') {
+            return null;
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0) {
+                return null;
+            }
+            if (i < 19) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+        }
+        return new UUID(msb, lsb);
+    }
+}
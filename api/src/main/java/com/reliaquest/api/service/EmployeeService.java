@@ -1,7 +1,16 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.model.EmployeeCacheStatsDto;
+import com.reliaquest.api.model.EmployeeCreationStatusDto;
 import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeFilterRequestDto;
+import com.reliaquest.api.model.EmployeeFilterResultDto;
+import com.reliaquest.api.model.EmployeeGroupStatsDto;
+import com.reliaquest.api.model.EmployeeIdsRequestDto;
+import com.reliaquest.api.model.EmployeeIdsResultDto;
 import com.reliaquest.api.model.EmployeeRequestDto;
+import com.reliaquest.api.model.SalaryBucketDto;
+import com.reliaquest.api.model.SalaryPercentileDto;
 import java.util.List;
 
 /**
@@ -48,6 +57,15 @@ public interface EmployeeService {
      */
     List<EmployeeDto> searchEmployeesByName(String name);
 
+    /**
+     * Complete employee names for a typeahead
+     *
+     * @param prefix beginning of a first, middle or last name
+     * @param limit  maximum number of completions
+     * @return {@link EmployeeDto} ordered by descending salary
+     */
+    List<EmployeeDto> completeEmployeeNames(String prefix, int limit);
+
     /**
      * Get highest salary
      *
@@ -61,4 +79,93 @@ public interface EmployeeService {
      * @return List of Employee Names
      */
     List<String> getTopTenHighestEarningEmployeeNames();
+
+    /**
+     * Get salaries at the requested percentiles
+     *
+     * @param percentiles percentiles between 0 and 100
+     * @return {@link SalaryPercentileDto} per requested percentile
+     */
+    List<SalaryPercentileDto> getSalaryPercentiles(List<Double> percentiles);
+
+    /**
+     * Get salary histogram with equal width buckets
+     *
+     * @param buckets number of buckets
+     * @return {@link SalaryBucketDto} per bucket
+     */
+    List<SalaryBucketDto> getSalaryHistogram(int buckets);
+
+    /**
+     * Count employees with salary between min and max (inclusive)
+     *
+     * @param minSalary lower bound
+     * @param maxSalary upper bound
+     * @return number of employees
+     */
+    int countEmployeesBySalaryRange(int minSalary, int maxSalary);
+
+    /**
+     * Get employees with salary between min and max (inclusive)
+     *
+     * @param minSalary lower bound
+     * @param maxSalary upper bound
+     * @return {@link EmployeeDto} ordered by ascending salary
+     */
+    List<EmployeeDto> getEmployeesBySalaryRange(int minSalary, int maxSalary);
+
+    /**
+     * Filter employees by title, email domain, age range and salary range
+     *
+     * @param filter predicates to combine, unset predicates are ignored
+     * @return {@link EmployeeFilterResultDto}
+     */
+    EmployeeFilterResultDto filterEmployees(EmployeeFilterRequestDto filter);
+
+    /**
+     * Get headcount and salary statistics per title
+     *
+     * @param topEarners number of best paid employees to list per title
+     * @return {@link EmployeeGroupStatsDto} per title, largest groups first
+     */
+    List<EmployeeGroupStatsDto> getStatsByTitle(int topEarners);
+
+    /**
+     * Get headcount and salary statistics per age band
+     *
+     * @param topEarners number of best paid employees to list per age band
+     * @return {@link EmployeeGroupStatsDto} per age band, youngest first
+     */
+    List<EmployeeGroupStatsDto> getStatsByAgeBand(int topEarners);
+
+    /**
+     * Get statistics of the per-id employee cache
+     *
+     * @return {@link EmployeeCacheStatsDto}
+     */
+    EmployeeCacheStatsDto getEmployeeCacheStats();
+
+    /**
+     * Validate and queue an employee creation that is sent upstream in the background
+     *
+     * @param employeeRequestDto employee to create
+     * @return {@link EmployeeCreationStatusDto} with the tracking id of the queued creation
+     */
+    EmployeeCreationStatusDto submitEmployeeCreation(EmployeeRequestDto employeeRequestDto);
+
+    /**
+     * Get the progress of a queued employee creation
+     *
+     * @param trackingId tracking id returned on submission
+     * @return {@link EmployeeCreationStatusDto}
+     */
+    EmployeeCreationStatusDto getEmployeeCreationStatus(String trackingId);
+
+    /**
+     * Get several employees by id in one call, served from the per-id cache where possible
+     *
+     * @param request ids of the employees
+     * @return {@link EmployeeIdsResultDto} with the employees found and the ids not found
+     */
+    EmployeeIdsResultDto getEmployeesByIds(EmployeeIdsRequestDto request);
 }
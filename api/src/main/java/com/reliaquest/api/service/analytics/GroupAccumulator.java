@@ -0,0 +1,82 @@
+package com.reliaquest.api.service.analytics;
+
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeGroupStatsDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Mutable statistics of one group, owned by a single fork-join task until it is merged into its parent's.
+ */
+final class GroupAccumulator {
+
+    static final Comparator<EmployeeDto> BY_SALARY_DESC = Comparator.comparing(
+                    EmployeeDto::getEmployeeSalary, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(EmployeeDto::getEmployeeName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final int topLimit;
+
+    private int headcount;
+
+    private int salaried;
+
+    private long salarySum;
+
+    private int maxSalary = Integer.MIN_VALUE;
+
+    /*
+     * Min-heap on salary holding the best topLimit earners seen so far.
+     */
+    private final PriorityQueue<EmployeeDto> top;
+
+    GroupAccumulator(int topLimit) {
+        this.topLimit = topLimit;
+        this.top = new PriorityQueue<>(topLimit + 1, BY_SALARY_DESC.reversed());
+    }
+
+    void add(EmployeeDto employee) {
+        headcount++;
+        Integer salary = employee.getEmployeeSalary();
+        if (salary != null) {
+            salaried++;
+            salarySum += salary;
+            maxSalary = Math.max(maxSalary, salary);
+            offer(employee);
+        }
+    }
+
+    GroupAccumulator mergedWith(GroupAccumulator other) {
+        headcount += other.headcount;
+        salaried += other.salaried;
+        salarySum += other.salarySum;
+        maxSalary = Math.max(maxSalary, other.maxSalary);
+        other.top.forEach(this::offer);
+        return this;
+    }
+
+    int headcount() {
+        return headcount;
+    }
+
+    EmployeeGroupStatsDto toDto(String group) {
+        List<EmployeeDto> topEarners = new ArrayList<>(top);
+        topEarners.sort(BY_SALARY_DESC);
+        return EmployeeGroupStatsDto.builder()
+                .group(group)
+                .headcount(headcount)
+                .salarySum(salarySum)
+                .averageSalary(salaried == 0 ? null : (double) salarySum / salaried)
+                .maxSalary(salaried == 0 ? null : maxSalary)
+                .topEarners(topEarners)
+                .build();
+    }
+
+    private void offer(EmployeeDto employee) {
+        top.offer(employee);
+        if (top.size() > topLimit) {
+            top.poll();
+        }
+    }
+}
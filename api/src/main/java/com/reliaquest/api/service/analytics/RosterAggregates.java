@@ -0,0 +1,59 @@
+package com.reliaquest.api.service.analytics;
+
+import com.reliaquest.api.model.EmployeeGroupStatsDto;
+import java.util.List;
+
+/**
+ * Group-by statistics of one roster version, computed by {@link RosterAggregator}. Groups keep their
+ * {@link #MAX_TOP_EARNERS} best paid employees so that any smaller number can be served from the same result.
+ */
+public class RosterAggregates {
+
+    public static final int MAX_TOP_EARNERS = 10;
+
+    public static final int AGE_BAND_WIDTH = 10;
+
+    private final List<EmployeeGroupStatsDto> byTitle;
+
+    private final List<EmployeeGroupStatsDto> byAgeBand;
+
+    RosterAggregates(List<EmployeeGroupStatsDto> byTitle, List<EmployeeGroupStatsDto> byAgeBand) {
+        this.byTitle = byTitle;
+        this.byAgeBand = byAgeBand;
+    }
+
+    /**
+     * Statistics per title, largest groups first.
+     *
+     * @param topEarners number of best paid employees to list per group, at most {@link #MAX_TOP_EARNERS}
+     */
+    public List<EmployeeGroupStatsDto> byTitle(int topEarners) {
+        return withTopEarners(byTitle, topEarners);
+    }
+
+    /**
+     * Statistics per age band of {@link #AGE_BAND_WIDTH} years, youngest first.
+     *
+     * @param topEarners number of best paid employees to list per group, at most {@link #MAX_TOP_EARNERS}
+     */
+    public List<EmployeeGroupStatsDto> byAgeBand(int topEarners) {
+        return withTopEarners(byAgeBand, topEarners);
+    }
+
+    private static List<EmployeeGroupStatsDto> withTopEarners(List<EmployeeGroupStatsDto> groups, int topEarners) {
+        if (topEarners < 0 || topEarners > MAX_TOP_EARNERS) {
+            throw new IllegalArgumentException(
+                    "Top earners must be between 0 and " + MAX_TOP_EARNERS + ". Provided: " + topEarners);
+        }
+        return groups.stream()
+                .map(group -> group.toBuilder()
+                        .topEarners(group.getTopEarners()
+                                .subList(
+                                        0,
+                                        Math.min(
+                                                topEarners,
+                                                group.getTopEarners().size())))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.api.service.analytics;
+
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeGroupStatsDto;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes the per-title and per-age-band statistics of a roster in one pass.
+ * <p>
+ * Rosters of at least {@code parallel-threshold} employees are split into ranges of at most that size and aggregated
+ * on the common fork-join pool. Every range fills its own accumulators without synchronization; a task merges the
+ * accumulators of its two halves after joining them, so the only shared state is the immutable roster.
+ */
+@Component
+public class RosterAggregator {
+
+    @Getter
+    private final int parallelThreshold;
+
+    public RosterAggregator(@Value("${employee.analytics.parallel-threshold:10000}") int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException(
+                    "employee.analytics.parallel-threshold must be positive. Provided: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @param employees roster to aggregate, must not change while aggregating
+     * @return {@link RosterAggregates}
+     */
+    public RosterAggregates aggregate(List<EmployeeDto> employees) {
+        AggregationTask task = new AggregationTask(employees, 0, employees.size());
+        Partial partial = employees.size() < parallelThreshold
+                ? task.aggregateSequentially()
+                : ForkJoinPool.commonPool().invoke(task);
+
+        List<EmployeeGroupStatsDto> byTitle = partial.titles.entrySet().stream()
+                .sorted(Map.Entry.<String, GroupAccumulator>comparingByValue(
+                                Comparator.comparingInt(GroupAccumulator::headcount)
+                                        .reversed())
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder()))))
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .toList();
+        List<EmployeeGroupStatsDto> byAgeBand = partial.ageBands.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(entry -> entry.getValue().toDto(ageBandLabel(entry.getKey())))
+                .toList();
+        return new RosterAggregates(byTitle, byAgeBand);
+    }
+
+    private static String ageBandLabel(Integer lowerBound) {
+        return lowerBound == null ? null : lowerBound + "-" + (lowerBound + RosterAggregates.AGE_BAND_WIDTH - 1);
+    }
+
+    private final class AggregationTask extends RecursiveTask<Partial> {
+
+        private final List<EmployeeDto> employees;
+
+        private final int from;
+
+        private final int to;
+
+        private AggregationTask(List<EmployeeDto> employees, int from, int to) {
+            this.employees = employees;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= parallelThreshold) {
+                return aggregateSequentially();
+            }
+            int middle = (from + to) >>> 1;
+            AggregationTask left = new AggregationTask(employees, from, middle);
+            left.fork();
+            Partial right = new AggregationTask(employees, middle, to).compute();
+            return left.join().merge(right);
+        }
+
+        private Partial aggregateSequentially() {
+            Partial partial = new Partial();
+            for (int i = from; i < to; i++) {
+                partial.add(employees.get(i));
+            }
+            return partial;
+        }
+    }
+
+    /**
+     * Accumulators of one range of the roster, keyed by title and by age band lower bound. Null keys collect the
+     * employees without a title or age.
+     */
+    private static final class Partial {
+
+        private final Map<String, GroupAccumulator> titles = new HashMap<>();
+
+        private final Map<Integer, GroupAccumulator> ageBands = new HashMap<>();
+
+        private void add(EmployeeDto employee) {
+            titles.computeIfAbsent(employee.getEmployeeTitle(), ignored -> newAccumulator())
+                    .add(employee);
+            ageBands.computeIfAbsent(ageBand(employee.getEmployeeAge()), ignored -> newAccumulator())
+                    .add(employee);
+        }
+
+        private Partial merge(Partial other) {
+            other.titles.forEach(
+                    (title, accumulator) -> titles.merge(title, accumulator, GroupAccumulator::mergedWith));
+            other.ageBands.forEach(
+                    (band, accumulator) -> ageBands.merge(band, accumulator, GroupAccumulator::mergedWith));
+            return this;
+        }
+
+        private static Integer ageBand(Integer age) {
+            int width = RosterAggregates.AGE_BAND_WIDTH;
+            return age == null ? null : Math.floorDiv(age, width) * width;
+        }
+
+        private static GroupAccumulator newAccumulator() {
+            return new GroupAccumulator(RosterAggregates.MAX_TOP_EARNERS);
+        }
+    }
+}
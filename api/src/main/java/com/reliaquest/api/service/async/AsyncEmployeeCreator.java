@@ -0,0 +1,292 @@
+package com.reliaquest.api.service.async;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.FeatureDisabledException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.EmployeeCreationStatusDto;
+import com.reliaquest.api.model.EmployeeCreationStatusDto.State;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeRequestDto;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.peer.EmployeePeerSync;
+import com.reliaquest.api.service.remote.EmployeeRemoteService;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind employee creation. Submissions are journaled and acknowledged immediately with a tracking id; a
+ * background flusher sends them upstream in bounded batches, in submission order. When the employee service answers
+ * 429 the batch stops and the flusher backs off exponentially, at least as long as its Retry-After, so queued
+ * creations wait here rather than in client connections. The journal is compacted by the flusher once
+ * {@code compaction-threshold} completions accumulated, so it stays bounded even when the queue never drains.
+ * <p>
+ * Delivery is at least once: a creation whose upstream response was lost is sent again after a restart.
+ */
+@Slf4j
+@Component
+public class AsyncEmployeeCreator implements DisposableBean {
+
+    private final EmployeeRemoteService employeeRemoteService;
+
+    private final EmployeeRosterService employeeRosterService;
+
+    private final EmployeeCache employeeCache;
+
+    private final EmployeePeerSync employeePeerSync;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final int maxAttempts;
+
+    private final long initialBackoffNanos;
+
+    private final long maxBackoffNanos;
+
+    private final Duration statusRetention;
+
+    private final int compactionThreshold;
+
+    private final PendingCreationJournal journal;
+
+    private final BlockingDeque<PendingCreation> queue = new LinkedBlockingDeque<>();
+
+    private final Map<UUID, PendingCreation> creations = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher;
+
+    private long backoffNanos;
+
+    private long resumeAtNanos = System.nanoTime();
+
+    public AsyncEmployeeCreator(
+            EmployeeRemoteService employeeRemoteService,
+            EmployeeRosterService employeeRosterService,
+            EmployeeCache employeeCache,
+            EmployeePeerSync employeePeerSync,
+            ObjectMapper objectMapper,
+            @Value("${employee.async-create.enabled:false}") boolean enabled,
+            @Value("${employee.async-create.queue-file:data/pending-creations.log}") Path queueFile,
+            @Value("${employee.async-create.batch-size:20}") int batchSize,
+            @Value("${employee.async-create.flush-interval:200ms}") Duration flushInterval,
+            @Value("${employee.async-create.max-attempts:10}") int maxAttempts,
+            @Value("${employee.async-create.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${employee.async-create.max-backoff:60s}") Duration maxBackoff,
+            @Value("${employee.async-create.status-retention:1h}") Duration statusRetention,
+            @Value("${employee.async-create.compaction-threshold:1000}") int compactionThreshold)
+            throws IOException {
+        this.employeeRemoteService = employeeRemoteService;
+        this.employeeRosterService = employeeRosterService;
+        this.employeeCache = employeeCache;
+        this.employeePeerSync = employeePeerSync;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.statusRetention = statusRetention;
+        this.compactionThreshold = compactionThreshold;
+        if (!enabled) {
+            this.journal = null;
+            this.flusher = null;
+            return;
+        }
+        this.journal = new PendingCreationJournal(queueFile, objectMapper);
+        for (PendingCreationJournal.Record record : journal.replay()) {
+            enqueue(new PendingCreation(record.trackingId(), record.request(), record.submittedAt()));
+        }
+        if (!queue.isEmpty()) {
+            log.info("Recovered {} pending employee creations from {}", queue.size(), queueFile);
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-create-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a validated creation request.
+     *
+     * @return status of the queued creation, including its tracking id
+     */
+    public EmployeeCreationStatusDto submit(EmployeeRequestDto request) {
+        if (!enabled) {
+            throw new FeatureDisabledException("Asynchronous employee creation is not enabled");
+        }
+        PendingCreation creation = new PendingCreation(UUID.randomUUID(), request, Instant.now());
+        synchronized (journal) {
+            journal.appendQueued(creation.trackingId, creation.submittedAt, request);
+            enqueue(creation);
+        }
+        return creation.toDto();
+    }
+
+    public Optional<EmployeeCreationStatusDto> getStatus(UUID trackingId) {
+        return Optional.ofNullable(creations.get(trackingId)).map(PendingCreation::toDto);
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (flusher != null) {
+            flusher.shutdownNow();
+            journal.close();
+        }
+    }
+
+    /**
+     * Sends up to one batch of queued creations upstream. Runs on the flusher thread only.
+     */
+    void flush() {
+        if (System.nanoTime() - resumeAtNanos < 0) {
+            return;
+        }
+        for (int sent = 0; sent < batchSize; sent++) {
+            PendingCreation creation = queue.peekFirst();
+            if (creation == null) {
+                break;
+            }
+            creation.attempts++;
+            try {
+                EmployeeDto employee =
+                        employeeRemoteService.createEmployee(creation.request).getData();
+                employeeRosterService.applyCreated(employee);
+                employeeCache.put(employee);
+                employeePeerSync.broadcastCreated(employee);
+                complete(creation, State.CREATED, employee, null);
+                backoffNanos = 0;
+            } catch (TooManyRequestsException ex) {
+                creation.attempts--;
+                backOff("rate limited", ex.getRetryAfter().orElse(Duration.ZERO));
+                return;
+            } catch (RuntimeException ex) {
+                if (creation.attempts >= maxAttempts) {
+                    log.warn("Giving up on employee creation {} after {} attempts", creation.trackingId, maxAttempts);
+                    complete(creation, State.FAILED, null, ex.getMessage());
+                } else {
+                    backOff(ex.getMessage(), Duration.ZERO);
+                }
+                return;
+            }
+        }
+        purgeExpired();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Unexpected failure while flushing employee creations", ex);
+        }
+    }
+
+    private void enqueue(PendingCreation creation) {
+        creations.put(creation.trackingId, creation);
+        queue.addLast(creation);
+    }
+
+    private void complete(PendingCreation creation, State state, EmployeeDto employee, String error) {
+        creation.employee = employee;
+        creation.error = error;
+        creation.completedAt = Instant.now();
+        creation.state = state;
+        List<PendingCreationJournal.Record> pending = null;
+        long coveredLength = 0;
+        synchronized (journal) {
+            queue.remove(creation);
+            journal.appendCompleted(creation.trackingId);
+            if (queue.isEmpty()) {
+                journal.truncate();
+            } else if (journal.getCompletedRecords() >= compactionThreshold) {
+                pending = queue.stream().map(PendingCreation::toRecord).toList();
+                coveredLength = journal.size();
+            }
+        }
+        if (pending != null) {
+            journal.compact(pending, coveredLength);
+        }
+    }
+
+    /*
+     * The pause doubles with every consecutive failure, but never ends before the upstream's Retry-After.
+     */
+    private void backOff(String reason, Duration retryAfter) {
+        backoffNanos = backoffNanos == 0 ? initialBackoffNanos : Math.min(maxBackoffNanos, backoffNanos * 2);
+        long pauseNanos = Math.max(backoffNanos, retryAfter.toNanos());
+        resumeAtNanos = System.nanoTime() + pauseNanos;
+        log.warn(
+                "Pausing employee creation flush for {} ms ({} queued): {}",
+                TimeUnit.NANOSECONDS.toMillis(pauseNanos),
+                queue.size(),
+                reason);
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(statusRetention);
+        creations.values().removeIf(creation -> creation.completedAt != null && creation.completedAt.isBefore(cutoff));
+    }
+
+    private static final class PendingCreation {
+
+        private final UUID trackingId;
+
+        private final EmployeeRequestDto request;
+
+        private final Instant submittedAt;
+
+        private volatile State state = State.QUEUED;
+
+        private volatile int attempts;
+
+        private volatile EmployeeDto employee;
+
+        private volatile String error;
+
+        private volatile Instant completedAt;
+
+        PendingCreation(UUID trackingId, EmployeeRequestDto request, Instant submittedAt) {
+            this.trackingId = trackingId;
+            this.request = request;
+            this.submittedAt = submittedAt;
+        }
+
+        PendingCreationJournal.Record toRecord() {
+            return PendingCreationJournal.Record.queued(trackingId, submittedAt, request);
+        }
+
+        EmployeeCreationStatusDto toDto() {
+            return EmployeeCreationStatusDto.builder()
+                    .trackingId(trackingId)
+                    .state(state)
+                    .submittedAt(submittedAt)
+                    .attempts(attempts)
+                    .employee(employee)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.reliaquest.api.service.async;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeRequestDto;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of queued and completed asynchronous creations, one JSON record per line. Every record is forced
+ * to disk before returning, so an accepted creation survives a restart. The file is truncated whenever the queue
+ * drains and compacted down to the still queued creations once enough completions piled up.
+ */
+@Slf4j
+class PendingCreationJournal implements Closeable {
+
+    private static final String QUEUED = "queued";
+
+    private static final String COMPLETED = "completed";
+
+    private final Path file;
+
+    private final ObjectMapper objectMapper;
+
+    private FileChannel channel;
+
+    private int completedRecords;
+
+    PendingCreationJournal(Path file, ObjectMapper objectMapper) throws IOException {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        this.channel = open(file);
+        discardTornTail();
+    }
+
+    /**
+     * Reads back the creations that were queued but never completed, in submission order. Complete lines that cannot
+     * be parsed are skipped; a torn last line was already cut when the file was opened.
+     */
+    synchronized List<Record> replay() throws IOException {
+        Map<UUID, Record> pending = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Record record;
+            try {
+                record = objectMapper.readValue(line, Record.class);
+            } catch (IOException ex) {
+                log.warn("Skipping unreadable pending creation record in {}: {}", file, ex.getMessage());
+                continue;
+            }
+            if (QUEUED.equals(record.op())) {
+                pending.put(record.trackingId(), record);
+            } else {
+                pending.remove(record.trackingId());
+                completedRecords++;
+            }
+        }
+        return new ArrayList<>(pending.values());
+    }
+
+    synchronized void appendQueued(UUID trackingId, Instant submittedAt, EmployeeRequestDto request) {
+        append(Record.queued(trackingId, submittedAt, request));
+    }
+
+    synchronized void appendCompleted(UUID trackingId) {
+        append(new Record(COMPLETED, trackingId, null, null));
+        completedRecords++;
+    }
+
+    /**
+     * Number of completion records written since the file was last truncated or compacted.
+     */
+    synchronized int getCompletedRecords() {
+        return completedRecords;
+    }
+
+    synchronized long size() {
+        try {
+            return channel.size();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    synchronized void truncate() {
+        try {
+            channel.truncate(0);
+            channel.force(false);
+            completedRecords = 0;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Replaces the first {@code coveredLength} bytes of the file with {@code pending}, the creations still queued as
+     * of that length. Records appended meanwhile are carried over, so submissions are not held up while the pending
+     * records are rewritten. The new file is written beside the old one and moved over it, so a crash leaves one of the
+     * two intact. Must not run concurrently with {@link #truncate()} or another compaction.
+     */
+    void compact(List<Record> pending, long coveredLength) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(
+                tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Record record : pending) {
+                write(out, record);
+            }
+            synchronized (this) {
+                try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long position = coveredLength;
+                    long end = in.size();
+                    while (position < end) {
+                        position += in.transferTo(position, end - position, out);
+                    }
+                }
+                out.force(false);
+                channel.close();
+                try {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    completedRecords = 0;
+                } finally {
+                    channel = open(file);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Compacted {} down to {} pending creations", file, pending.size());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Cuts a partial last line left by a crash mid-append, so the next record starts on a line of its own instead of
+     * being glued onto the torn one.
+     */
+    private void discardTornTail() throws IOException {
+        long size = channel.size();
+        long validLength = 0;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(4096);
+            for (long end = size; end > 0 && validLength == 0; end -= buffer.limit()) {
+                long start = Math.max(0, end - buffer.capacity());
+                buffer.clear().limit((int) (end - start));
+                while (buffer.hasRemaining()) {
+                    if (in.read(buffer, start + buffer.position()) < 0) {
+                        throw new EOFException("Pending creation journal shrank while opening " + file);
+                    }
+                }
+                for (int i = buffer.limit() - 1; i >= 0 && validLength == 0; i--) {
+                    if (buffer.get(i) == '\n') {
+                        validLength = start + i + 1;
+                    }
+                }
+            }
+        }
+        if (size > validLength) {
+            log.warn("Discarding {} bytes of torn journal tail", size - validLength);
+            channel.truncate(validLength);
+            channel.force(false);
+        }
+    }
+
+    private void append(Record record) {
+        try {
+            write(channel, record);
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void write(FileChannel target, Record record) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(record);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n');
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    record Record(String op, UUID trackingId, Instant submittedAt, EmployeeRequestDto request) {
+
+        static Record queued(UUID trackingId, Instant submittedAt, EmployeeRequestDto request) {
+            return new Record(QUEUED, trackingId, submittedAt, request);
+        }
+    }
+}
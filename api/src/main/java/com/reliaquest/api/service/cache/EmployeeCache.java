@@ -0,0 +1,95 @@
+package com.reliaquest.api.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.model.EmployeeCacheStatsDto;
+import com.reliaquest.api.model.EmployeeDto;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded per-id cache of employees. Eviction is frequency aware (Caffeine's W-TinyLFU), entries expire after the
+ * configured TTL, and the bound is either a number of entries or, when {@code max-weight-bytes} is set, the estimated
+ * heap size of the cached employees.
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    @Getter
+    private final boolean enabled;
+
+    private final Cache<UUID, EmployeeDto> cache;
+
+    public EmployeeCache(
+            @Value("${employee.cache.enabled:true}") boolean enabled,
+            @Value("${employee.cache.max-entries:10000}") long maxEntries,
+            @Value("${employee.cache.max-weight-bytes:0}") long maxWeightBytes,
+            @Value("${employee.cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        Caffeine<Object, Object> builder =
+                Caffeine.newBuilder().expireAfterWrite(ttl).recordStats();
+        if (maxWeightBytes > 0) {
+            builder.maximumWeight(maxWeightBytes).weigher((UUID id, EmployeeDto employee) -> estimateBytes(employee));
+        } else {
+            builder.maximumSize(maxEntries);
+        }
+        this.cache = builder.build();
+    }
+
+    public EmployeeDto get(UUID id) {
+        return enabled ? cache.getIfPresent(id) : null;
+    }
+
+    /**
+     * Whether {@code id} is cached, without counting towards the hit and miss statistics.
+     */
+    public boolean contains(UUID id) {
+        return enabled && cache.asMap().containsKey(id);
+    }
+
+    public void put(EmployeeDto employee) {
+        if (enabled && employee != null && employee.getId() != null) {
+            cache.put(employee.getId(), employee);
+        }
+    }
+
+    public void invalidate(UUID id) {
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public EmployeeCacheStatsDto getStats() {
+        var stats = cache.stats();
+        return EmployeeCacheStatsDto.builder()
+                .enabled(enabled)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    private static int estimateBytes(EmployeeDto employee) {
+        return ENTRY_OVERHEAD_BYTES
+                + stringBytes(employee.getEmployeeName())
+                + stringBytes(employee.getEmployeeTitle())
+                + stringBytes(employee.getEmail());
+    }
+
+    private static int stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+}
@@ -0,0 +1,183 @@
+package com.reliaquest.api.service.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.remote.dto.EmployeeChangeEventDto;
+import com.reliaquest.api.service.remote.shard.EmployeeShards;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+/**
+ * Subscribes to the server-sent change feed of every upstream shard and applies each event to the local roster and
+ * employee cache, so neither has to be refreshed by polling while the feeds are connected.
+ * <p>
+ * Streams are resumed with {@code Last-Event-ID} after a disconnect. A {@code reset} event, sent when the server can no
+ * longer replay the missed events, drops the local roster so that it is fetched again.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeFeedSubscriber implements DisposableBean {
+
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    private final AppConfig appConfig;
+
+    private final EmployeeShards employeeShards;
+
+    private final EmployeeRosterService employeeRosterService;
+
+    private final EmployeeCache employeeCache;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final Duration minBackoff;
+
+    private final Duration maxBackoff;
+
+    private final Map<String, Disposable> subscriptions = new ConcurrentHashMap<>();
+
+    private final Set<String> liveShards = ConcurrentHashMap.newKeySet();
+
+    public EmployeeChangeFeedSubscriber(
+            @Qualifier("employeeChangeFeedClient") WebClient webClient,
+            AppConfig appConfig,
+            EmployeeShards employeeShards,
+            EmployeeRosterService employeeRosterService,
+            EmployeeCache employeeCache,
+            ObjectMapper objectMapper,
+            @Value("${employee.change-feed.enabled:false}") boolean enabled,
+            @Value("${employee.change-feed.min-backoff:1s}") Duration minBackoff,
+            @Value("${employee.change-feed.max-backoff:30s}") Duration maxBackoff) {
+        this.webClient = webClient;
+        this.appConfig = appConfig;
+        this.employeeShards = employeeShards;
+        this.employeeRosterService = employeeRosterService;
+        this.employeeCache = employeeCache;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        employeeShards.getBaseUrls().forEach(baseUrl -> subscriptions.computeIfAbsent(baseUrl, this::subscribe));
+    }
+
+    @Override
+    public void destroy() {
+        subscriptions.values().forEach(Disposable::dispose);
+        subscriptions.clear();
+    }
+
+    private Disposable subscribe(String baseUrl) {
+        String url = baseUrl + appConfig.getEmployeeServiceResourceUrl() + "/changes";
+        AtomicReference<String> lastEventId = new AtomicReference<>();
+        return Flux.defer(() -> webClient
+                        .get()
+                        .uri(url)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .headers(headers -> {
+                            if (lastEventId.get() != null) {
+                                headers.set(LAST_EVENT_ID, lastEventId.get());
+                            }
+                        })
+                        .retrieve()
+                        .bodyToFlux(EVENT_TYPE)
+                        .doOnNext(event -> {
+                            apply(baseUrl, event);
+                            if (event.id() != null) {
+                                lastEventId.set(event.id());
+                            }
+                        })
+                        .doFinally(signal -> markDown(baseUrl)))
+                .repeatWhen(completions -> completions.delayElements(minBackoff))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .transientErrors(true)
+                        .doBeforeRetry(retry -> log.warn(
+                                "Change feed {} disconnected, reconnecting: {}",
+                                url,
+                                retry.failure().toString())))
+                .subscribe();
+    }
+
+    /**
+     * Applies a single feed event to the roster and cache.
+     */
+    void apply(String baseUrl, ServerSentEvent<String> event) {
+        String name = event.event() == null ? "" : event.event();
+        switch (name) {
+            case "open" -> {
+                liveShards.add(baseUrl);
+                employeeRosterService.setChangeFeedLive(liveShards.size() == employeeShards.size());
+                log.info("Change feed {} connected", baseUrl);
+            }
+            case "reset" -> {
+                log.info("Change feed {} cannot replay missed events, dropping local roster", baseUrl);
+                employeeRosterService.invalidate();
+                employeeCache.invalidateAll();
+            }
+            case "created" -> {
+                EmployeeChangeEventDto change = parse(event);
+                if (change != null && change.getEmployee() != null) {
+                    employeeRosterService.applyCreated(change.getEmployee());
+                    employeeCache.put(change.getEmployee());
+                }
+            }
+            case "deleted" -> {
+                EmployeeChangeEventDto change = parse(event);
+                if (change != null && change.getId() != null) {
+                    employeeRosterService.applyDeleted(change.getId());
+                    employeeCache.invalidate(change.getId());
+                }
+            }
+            default -> log.debug("Ignoring change feed event '{}'", name);
+        }
+    }
+
+    private EmployeeChangeEventDto parse(ServerSentEvent<String> event) {
+        try {
+            return objectMapper.readValue(event.data(), EmployeeChangeEventDto.class);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            log.warn("Unreadable change feed event {}: {}", event.id(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private void markDown(String baseUrl) {
+        if (liveShards.remove(baseUrl)) {
+            employeeRosterService.setChangeFeedLive(false);
+        }
+    }
+}
@@ -12,18 +12,46 @@
 package com.reliaquest.api.service.impl;
 
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.FeatureDisabledException;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.model.EmployeeCacheStatsDto;
+import com.reliaquest.api.model.EmployeeCreationStatusDto;
 import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeFilterRequestDto;
+import com.reliaquest.api.model.EmployeeFilterResultDto;
+import com.reliaquest.api.model.EmployeeGroupStatsDto;
+import com.reliaquest.api.model.EmployeeIdsRequestDto;
+import com.reliaquest.api.model.EmployeeIdsResultDto;
 import com.reliaquest.api.model.EmployeeRequestDto;
+import com.reliaquest.api.model.SalaryBucketDto;
+import com.reliaquest.api.model.SalaryPercentileDto;
+import com.reliaquest.api.model.json.UuidParser;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.analytics.RosterAggregates;
+import com.reliaquest.api.service.analytics.RosterAggregator;
+import com.reliaquest.api.service.async.AsyncEmployeeCreator;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.index.EmployeeBitmapIndex;
+import com.reliaquest.api.service.index.NameTypeaheadIndex;
+import com.reliaquest.api.service.index.SalaryIndex;
+import com.reliaquest.api.service.peer.EmployeePeerSync;
+import com.reliaquest.api.service.remote.EmployeeLookupBatcher;
 import com.reliaquest.api.service.remote.EmployeeRemoteService;
 import com.reliaquest.api.service.remote.dto.DeleteEmployeeResponseDto;
 import com.reliaquest.api.service.remote.dto.EmployeeResponseDto;
 import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
 import com.reliaquest.api.service.remote.dto.GetEmployeeResponseDto;
+import com.reliaquest.api.service.roster.EmployeeRoster;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
 import com.reliaquest.api.validator.EmployeeValidator;
-import java.util.Collections;
+import com.reliaquest.api.web.StaleResponseMarker;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -36,8 +64,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final int MAX_HISTOGRAM_BUCKETS = 1000;
+    private static final int DEFAULT_FILTER_LIMIT = 100;
+    private static final int MAX_FILTER_LIMIT = 10000;
+    private static final int MAX_BATCH_IDS = 1000;
+
     private final EmployeeRemoteService employeeRemoteService;
     private final EmployeeValidator employeeValidator;
+    private final EmployeeRosterService employeeRosterService;
+    private final EmployeeCache employeeCache;
+    private final AsyncEmployeeCreator asyncEmployeeCreator;
+    private final EmployeeLookupBatcher employeeLookupBatcher;
+    private final EmployeePeerSync employeePeerSync;
+    private final RosterAggregator rosterAggregator;
 
     /**
      * Retrieves a list of all employees.
@@ -49,11 +88,13 @@ public class EmployeeServiceImpl implements EmployeeService {
         log.info("Getting all employees");
         CompletableFuture<GetAllEmployeesResponseDto> futureResponse = employeeRemoteService.getAllEmployees();
         GetAllEmployeesResponseDto responseDto = futureResponse.join();
+        StaleResponseMarker.mark(responseDto.getStaleAsOf());
         return responseDto.getData();
     }
 
     /**
-     * Retrieves an employee's details by their unique ID.
+     * Retrieves an employee's details by their unique ID, serving hot IDs from the per-id cache. Cache misses may be
+     * batched with concurrent lookups by {@link EmployeeLookupBatcher}.
      *
      * @param id The unique identifier of the employee.
      * @return EmployeeDto object containing the employee's details.
@@ -63,7 +104,18 @@ public class EmployeeServiceImpl implements EmployeeService {
         log.info("Getting employee by id: {}", id);
         employeeValidator.validateEmployeeId(id);
         UUID uuid = getValidUUID(id);
-        GetEmployeeResponseDto getEmployeeResponseDto = employeeRemoteService.getEmployeeById(uuid);
+        EmployeeDto cached = employeeCache.get(uuid);
+        if (cached != null) {
+            return cached;
+        }
+        GetEmployeeResponseDto getEmployeeResponseDto = employeeLookupBatcher.isEnabled()
+                ? employeeLookupBatcher.load(uuid)
+                : employeeRemoteService.getEmployeeById(uuid);
+        if (getEmployeeResponseDto.getStaleAsOf() != null) {
+            StaleResponseMarker.mark(getEmployeeResponseDto.getStaleAsOf());
+        } else {
+            employeeCache.put(getEmployeeResponseDto.getData());
+        }
         return getEmployeeResponseDto.getData();
     }
 
@@ -79,10 +131,13 @@ public class EmployeeServiceImpl implements EmployeeService {
         employeeValidator.validateEmployeeId(id);
         EmployeeDto employeeDto = getEmployeeById(id);
         DeleteEmployeeResponseDto deleteEmployeeResponseDto =
-                employeeRemoteService.deleteEmployeeByName(employeeDto.getEmployeeName());
+                employeeRemoteService.deleteEmployeeByName(employeeDto.getEmployeeName(), employeeDto.getId());
+        employeeCache.invalidate(employeeDto.getId());
         if (!deleteEmployeeResponseDto.getData()) {
             throw new EmployeeNotFoundException("Employee with id: " + id + " not found");
         }
+        employeeRosterService.applyDeleted(employeeDto.getId());
+        employeePeerSync.broadcastDeleted(employeeDto.getId());
         return "Employee deleted successfully";
     }
 
@@ -96,6 +151,9 @@ public class EmployeeServiceImpl implements EmployeeService {
     public EmployeeDto createEmployee(EmployeeRequestDto employeeRequestDto) {
         employeeValidator.validateEmployeeData(employeeRequestDto);
         EmployeeResponseDto createEmployeeResponseDto = employeeRemoteService.createEmployee(employeeRequestDto);
+        employeeRosterService.applyCreated(createEmployeeResponseDto.getData());
+        employeePeerSync.broadcastCreated(createEmployeeResponseDto.getData());
+        employeeCache.put(createEmployeeResponseDto.getData());
         return createEmployeeResponseDto.getData();
     }
 
@@ -105,20 +163,45 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @param name The string to search for within employee names.
      * @return List of EmployeeDto objects representing employees whose names match the search
      * criteria.
-     * @throws IllegalArgumentException if the search string is null or empty.
+     * @throws InvalidRequestException if the search string is null or empty.
      */
     @Override
     public List<EmployeeDto> searchEmployeesByName(String name) {
         if (name == null || name.isBlank()) {
-            throw new IllegalArgumentException("Search string(name) cannot be empty");
+            throw new InvalidRequestException("Search string(name) cannot be empty");
         }
-        List<EmployeeDto> employeeDtoList = getAllEmployees();
-        return employeeDtoList.stream()
+        Optional<List<EmployeeDto>> matches = employeeRemoteService.searchEmployeesByName(name);
+        if (matches.isPresent()) {
+            return matches.get();
+        }
+        return getRoster().getEmployees().stream()
                 .filter(employeeDto ->
                         employeeDto.getEmployeeName().toLowerCase().contains(name.toLowerCase()))
                 .toList();
     }
 
+    /**
+     * Completes employee names from the roster's typeahead index, without calling the remote service per keystroke.
+     *
+     * @param prefix The beginning of a first, middle or last name.
+     * @param limit The maximum number of completions.
+     * @return List of EmployeeDto objects ordered by descending salary.
+     * @throws InvalidRequestException if the prefix is empty or the limit is out of range.
+     */
+    @Override
+    public List<EmployeeDto> completeEmployeeNames(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("Prefix cannot be empty");
+        }
+        if (limit <= 0 || limit > NameTypeaheadIndex.MAX_SUGGESTIONS) {
+            throw new InvalidRequestException(
+                    "Limit must be between 1 and " + NameTypeaheadIndex.MAX_SUGGESTIONS + ". Provided: " + limit);
+        }
+        return getRoster()
+                .derive(NameTypeaheadIndex.class, roster -> NameTypeaheadIndex.of(roster.getEmployees()))
+                .complete(prefix, limit);
+    }
+
     /**
      * Retrieves the highest salary among all employees.
      *
@@ -127,8 +210,11 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public int getHighestSalaryOfEmployees() {
-        List<EmployeeDto> employeeDtoList = getAllEmployees();
-        OptionalInt maxSalary = employeeDtoList.stream()
+        OptionalInt remoteMaxSalary = employeeRemoteService.getHighestSalary();
+        if (remoteMaxSalary.isPresent()) {
+            return remoteMaxSalary.getAsInt();
+        }
+        OptionalInt maxSalary = getRoster().getEmployees().stream()
                 .mapToInt(EmployeeDto::getEmployeeSalary)
                 .max();
         if (maxSalary.isPresent()) {
@@ -145,28 +231,288 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        List<EmployeeDto> employeeDtoList = getAllEmployees();
-        employeeDtoList.sort(Comparator.comparingInt(EmployeeDto::getEmployeeSalary));
-        Collections.reverse(employeeDtoList);
-        return employeeDtoList.stream()
+        Optional<List<EmployeeDto>> topEarners = employeeRemoteService.getTopEarningEmployees(10);
+        if (topEarners.isPresent()) {
+            return topEarners.get().stream().map(EmployeeDto::getEmployeeName).toList();
+        }
+        return getRoster().getEmployees().stream()
+                .sorted(Comparator.comparingInt(EmployeeDto::getEmployeeSalary).reversed())
                 .limit(10)
                 .map(EmployeeDto::getEmployeeName)
                 .toList();
     }
 
+    /**
+     * Retrieves the salaries at the requested percentiles from the roster's salary index.
+     *
+     * @param percentiles Percentiles between 0 and 100.
+     * @return List of percentile and salary pairs, in the requested order.
+     * @throws InvalidRequestException if no percentile or a percentile outside [0, 100] is requested.
+     */
+    @Override
+    public List<SalaryPercentileDto> getSalaryPercentiles(List<Double> percentiles) {
+        if (percentiles == null || percentiles.isEmpty()) {
+            throw new InvalidRequestException("At least one percentile is required");
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || !(percentile >= 0 && percentile <= 100)) {
+                throw new InvalidRequestException("Percentile must be between 0 and 100. Provided: " + percentile);
+            }
+        }
+        SalaryIndex salaryIndex = getSalaryIndex();
+        return percentiles.stream()
+                .map(percentile -> {
+                    OptionalInt salary = salaryIndex.percentile(percentile);
+                    return SalaryPercentileDto.builder()
+                            .percentile(percentile)
+                            .salary(salary.isPresent() ? salary.getAsInt() : null)
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Retrieves a histogram of salaries with equal width buckets from the roster's salary index.
+     *
+     * @param buckets Number of buckets, between 1 and {@value #MAX_HISTOGRAM_BUCKETS}.
+     * @return List of buckets ordered by ascending salary.
+     * @throws InvalidRequestException if the number of buckets is out of range.
+     */
+    @Override
+    public List<SalaryBucketDto> getSalaryHistogram(int buckets) {
+        if (buckets <= 0 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            throw new InvalidRequestException(
+                    "Number of buckets must be between 1 and " + MAX_HISTOGRAM_BUCKETS + ". Provided: " + buckets);
+        }
+        return getSalaryIndex().histogram(buckets);
+    }
+
+    /**
+     * Counts the employees whose salary is within the given range.
+     *
+     * @param minSalary Lower bound, inclusive.
+     * @param maxSalary Upper bound, inclusive.
+     * @return Number of employees within the range.
+     * @throws InvalidRequestException if minSalary is greater than maxSalary.
+     */
+    @Override
+    public int countEmployeesBySalaryRange(int minSalary, int maxSalary) {
+        validateSalaryRange(minSalary, maxSalary);
+        return getSalaryIndex().countInRange(minSalary, maxSalary);
+    }
+
+    /**
+     * Retrieves the employees whose salary is within the given range.
+     *
+     * @param minSalary Lower bound, inclusive.
+     * @param maxSalary Upper bound, inclusive.
+     * @return List of EmployeeDto objects ordered by ascending salary.
+     * @throws InvalidRequestException if minSalary is greater than maxSalary.
+     */
+    @Override
+    public List<EmployeeDto> getEmployeesBySalaryRange(int minSalary, int maxSalary) {
+        validateSalaryRange(minSalary, maxSalary);
+        return getSalaryIndex().employeesInRange(minSalary, maxSalary);
+    }
+
+    /**
+     * Filters employees using the roster's bitmap indexes. All given predicates must match.
+     *
+     * @param filter The predicates; unset predicates are ignored.
+     * @return Number of matching employees and up to {@code limit} of them, in roster order.
+     * @throws InvalidRequestException if a range is inverted or the limit is out of range.
+     */
+    @Override
+    public EmployeeFilterResultDto filterEmployees(EmployeeFilterRequestDto filter) {
+        if (filter == null) {
+            filter = new EmployeeFilterRequestDto();
+        }
+        validateRange("age", filter.getMinAge(), filter.getMaxAge());
+        validateRange("salary", filter.getMinSalary(), filter.getMaxSalary());
+        int limit = filter.getLimit() == null ? DEFAULT_FILTER_LIMIT : filter.getLimit();
+        if (limit <= 0 || limit > MAX_FILTER_LIMIT) {
+            throw new InvalidRequestException(
+                    "Limit must be between 1 and " + MAX_FILTER_LIMIT + ". Provided: " + filter.getLimit());
+        }
+
+        EmployeeBitmapIndex bitmapIndex =
+                getRoster().derive(EmployeeBitmapIndex.class, roster -> EmployeeBitmapIndex.of(roster.getEmployees()));
+        long[] matches = bitmapIndex.filter(
+                filter.getTitle(),
+                filter.getEmailDomain(),
+                filter.getMinAge(),
+                filter.getMaxAge(),
+                filter.getMinSalary(),
+                filter.getMaxSalary());
+        return EmployeeFilterResultDto.builder()
+                .total(EmployeeBitmapIndex.cardinality(matches))
+                .employees(bitmapIndex.employees(matches, limit))
+                .build();
+    }
+
+    /**
+     * Retrieves headcount and salary statistics per title, aggregated once per roster version.
+     *
+     * @param topEarners The number of best paid employees to list per title.
+     * @return List of statistics per title, largest groups first.
+     * @throws InvalidRequestException if the number of top earners is out of range.
+     */
+    @Override
+    public List<EmployeeGroupStatsDto> getStatsByTitle(int topEarners) {
+        validateTopEarners(topEarners);
+        return getRosterAggregates().byTitle(topEarners);
+    }
+
+    /**
+     * Retrieves headcount and salary statistics per age band, aggregated once per roster version.
+     *
+     * @param topEarners The number of best paid employees to list per age band.
+     * @return List of statistics per age band, youngest first.
+     * @throws InvalidRequestException if the number of top earners is out of range.
+     */
+    @Override
+    public List<EmployeeGroupStatsDto> getStatsByAgeBand(int topEarners) {
+        validateTopEarners(topEarners);
+        return getRosterAggregates().byAgeBand(topEarners);
+    }
+
+    /**
+     * Retrieves hit, miss and eviction statistics of the per-id employee cache.
+     *
+     * @return Current cache statistics.
+     */
+    @Override
+    public EmployeeCacheStatsDto getEmployeeCacheStats() {
+        return employeeCache.getStats();
+    }
+
+    /**
+     * Validates the employee data and queues it for asynchronous creation.
+     *
+     * @param employeeRequestDto The data required to create the employee.
+     * @return Status of the queued creation with its tracking id.
+     * @throws InvalidRequestException if the data is invalid.
+     * @throws FeatureDisabledException if asynchronous creation is disabled.
+     */
+    @Override
+    public EmployeeCreationStatusDto submitEmployeeCreation(EmployeeRequestDto employeeRequestDto) {
+        employeeValidator.validateEmployeeData(employeeRequestDto);
+        return asyncEmployeeCreator.submit(employeeRequestDto);
+    }
+
+    /**
+     * Retrieves the progress of a queued employee creation.
+     *
+     * @param trackingId The tracking id returned on submission.
+     * @return Current status of the creation.
+     * @throws EmployeeNotFoundException if no creation with the tracking id is known.
+     */
+    @Override
+    public EmployeeCreationStatusDto getEmployeeCreationStatus(String trackingId) {
+        UUID uuid = UuidParser.parseOrNull(trackingId);
+        if (uuid == null) {
+            throw new InvalidRequestException("Invalid tracking id : " + trackingId + ", Requires UUID format.");
+        }
+        return asyncEmployeeCreator
+                .getStatus(uuid)
+                .orElseThrow(
+                        () -> new EmployeeNotFoundException("No employee creation with tracking id: " + trackingId));
+    }
+
+    /**
+     * Looks up several employees at once: ids in the per-id cache are served from it and the rest are fetched with a
+     * single upstream call (one per shard).
+     *
+     * @param request ids of the employees, duplicates are answered once
+     * @return employees in request order and the ids that were not found
+     */
+    @Override
+    public EmployeeIdsResultDto getEmployeesByIds(EmployeeIdsRequestDto request) {
+        if (request == null || request.getIds() == null || request.getIds().isEmpty()) {
+            throw new InvalidRequestException("At least one employee id is required");
+        }
+        if (request.getIds().size() > MAX_BATCH_IDS) {
+            throw new InvalidRequestException("At most " + MAX_BATCH_IDS + " employee ids can be requested at once");
+        }
+        log.info("Getting {} employees by id", request.getIds().size());
+        List<UUID> uuids =
+                request.getIds().stream().map(this::getValidUUID).distinct().toList();
+        Map<UUID, EmployeeDto> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID uuid : uuids) {
+            EmployeeDto cached = employeeCache.get(uuid);
+            if (cached != null) {
+                found.put(uuid, cached);
+            } else {
+                misses.add(uuid);
+            }
+        }
+        if (!misses.isEmpty()) {
+            GetAllEmployeesResponseDto response = employeeRemoteService.getEmployeesByIds(misses);
+            StaleResponseMarker.mark(response.getStaleAsOf());
+            for (EmployeeDto employee : response.getData()) {
+                found.put(employee.getId(), employee);
+                if (response.getStaleAsOf() == null) {
+                    employeeCache.put(employee);
+                }
+            }
+        }
+        return EmployeeIdsResultDto.builder()
+                .employees(
+                        uuids.stream().map(found::get).filter(Objects::nonNull).toList())
+                .notFound(uuids.stream()
+                        .filter(uuid -> !found.containsKey(uuid))
+                        .map(UUID::toString)
+                        .toList())
+                .build();
+    }
+
+    private RosterAggregates getRosterAggregates() {
+        return getRoster().derive(RosterAggregates.class, roster -> rosterAggregator.aggregate(roster.getEmployees()));
+    }
+
+    private void validateTopEarners(int topEarners) {
+        if (topEarners < 0 || topEarners > RosterAggregates.MAX_TOP_EARNERS) {
+            throw new InvalidRequestException("Top earners must be between 0 and " + RosterAggregates.MAX_TOP_EARNERS
+                    + ". Provided: " + topEarners);
+        }
+    }
+
+    private SalaryIndex getSalaryIndex() {
+        return getRoster().derive(SalaryIndex.class, roster -> SalaryIndex.of(roster.getEmployees()));
+    }
+
+    private EmployeeRoster getRoster() {
+        EmployeeRoster roster = employeeRosterService.getRoster();
+        if (employeeRosterService.isStale(roster)) {
+            StaleResponseMarker.mark(roster.getFetchedAt());
+        }
+        return roster;
+    }
+
+    private void validateSalaryRange(int minSalary, int maxSalary) {
+        validateRange("salary", minSalary, maxSalary);
+    }
+
+    private void validateRange(String attribute, Integer min, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new InvalidRequestException(
+                    "Minimum " + attribute + " " + min + " is greater than maximum " + attribute + " " + max);
+        }
+    }
+
     /**
      * Validates and converts a string ID to a UUID.
      *
      * @param id The string representation of the UUID.
      * @return The UUID object.
-     * @throws IllegalArgumentException if the ID is not a valid UUID.
+     * @throws InvalidRequestException if the ID is not a valid UUID.
      */
     private UUID getValidUUID(String id) {
-        try {
-            return UUID.fromString(id);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException(
-                    "Invalid employee id : " + id + ", Requires employee id in UUID format.");
+        UUID uuid = UuidParser.parseOrNull(id);
+        if (uuid == null) {
+            throw new InvalidRequestException("Invalid employee id : " + id + ", Requires employee id in UUID format.");
         }
+        return uuid;
     }
 }
@@ -0,0 +1,321 @@
+package com.reliaquest.api.service.index;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-attribute bitmap indexes over a roster, one bit per roster position.
+ * <p>
+ * Titles and email domains use equality bitmaps; age and salary use range-encoded bitmaps where bitmap {@code j}
+ * holds every row whose value is less than or equal to cut point {@code j}. Low cardinality attributes get one cut
+ * point per distinct value, making range predicates exact; otherwise values are binned into quantile cut points and
+ * only the rows of the two boundary bins are checked individually. Predicates are combined by ANDing 64 rows per word.
+ */
+public class EmployeeBitmapIndex {
+
+    private static final int MAX_RANGE_BINS = 128;
+
+    private final List<EmployeeDto> employees;
+
+    private final int words;
+
+    private final Map<String, Bitmap> titles;
+
+    private final Map<String, Bitmap> emailDomains;
+
+    private final RangeEncodedIndex ages;
+
+    private final RangeEncodedIndex salaries;
+
+    private EmployeeBitmapIndex(List<EmployeeDto> employees) {
+        this.employees = employees;
+        this.words = (employees.size() + 63) >>> 6;
+        this.titles = equalityIndex(employees, EmployeeDto::getEmployeeTitle);
+        this.emailDomains = equalityIndex(employees, EmployeeBitmapIndex::emailDomain);
+        this.ages = new RangeEncodedIndex(employees, EmployeeDto::getEmployeeAge);
+        this.salaries = new RangeEncodedIndex(employees, EmployeeDto::getEmployeeSalary);
+    }
+
+    /**
+     * Builds the indexes for the given roster.
+     *
+     * @param employees roster to index, must not change afterwards
+     * @return {@link EmployeeBitmapIndex}
+     */
+    public static EmployeeBitmapIndex of(List<EmployeeDto> employees) {
+        return new EmployeeBitmapIndex(employees);
+    }
+
+    /**
+     * Evaluates the conjunction of the given predicates. Null arguments are not constrained.
+     *
+     * @return matching roster positions as a bitmap
+     */
+    public long[] filter(
+            String title, String emailDomain, Integer minAge, Integer maxAge, Integer minSalary, Integer maxSalary) {
+        long[] result = new long[words];
+        Arrays.fill(result, -1L);
+        int tail = employees.size() & 63;
+        if (tail != 0) {
+            result[words - 1] = (1L << tail) - 1;
+        }
+
+        if (title != null && !and(result, titles.get(normalize(title)))) {
+            return result;
+        }
+        if (emailDomain != null && !and(result, emailDomains.get(normalize(emailDomain)))) {
+            return result;
+        }
+        if (minAge != null || maxAge != null) {
+            ages.and(result, minAge, maxAge);
+        }
+        if (minSalary != null || maxSalary != null) {
+            salaries.and(result, minSalary, maxSalary);
+        }
+        return result;
+    }
+
+    public static int cardinality(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Resolves up to {@code limit} rows of the bitmap to employees, in roster order.
+     */
+    public List<EmployeeDto> employees(long[] bitmap, int limit) {
+        List<EmployeeDto> result = new ArrayList<>(Math.min(limit, 1024));
+        for (int w = 0; w < bitmap.length && result.size() < limit; w++) {
+            long word = bitmap[w];
+            while (word != 0 && result.size() < limit) {
+                result.add(employees.get((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ANDs {@code bitmap} into {@code result}, clearing it when the bitmap does not exist.
+     *
+     * @return whether any row may still match
+     */
+    private static boolean and(long[] result, Bitmap bitmap) {
+        if (bitmap == null) {
+            Arrays.fill(result, 0L);
+            return false;
+        }
+        bitmap.andInto(result);
+        return true;
+    }
+
+    private static Map<String, Bitmap> equalityIndex(
+            List<EmployeeDto> employees, Function<EmployeeDto, String> attribute) {
+        Map<String, List<Integer>> rowsByValue = new HashMap<>();
+        for (int row = 0; row < employees.size(); row++) {
+            String value = attribute.apply(employees.get(row));
+            if (value != null) {
+                rowsByValue
+                        .computeIfAbsent(normalize(value), ignored -> new ArrayList<>())
+                        .add(row);
+            }
+        }
+        Map<String, Bitmap> index = new HashMap<>(rowsByValue.size() * 2);
+        rowsByValue.forEach((value, rows) -> index.put(value, Bitmap.of(rows, employees.size())));
+        return index;
+    }
+
+    private static String emailDomain(EmployeeDto employee) {
+        String email = employee.getEmail();
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 ? null : email.substring(at + 1);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Bitmap stored either as words (dense) or as sorted row ids when fewer than one row per word is set, which keeps
+     * the many rarely used title and domain bitmaps small.
+     */
+    private static final class Bitmap {
+
+        private final long[] words;
+
+        private final int[] rows;
+
+        private Bitmap(long[] words, int[] rows) {
+            this.words = words;
+            this.rows = rows;
+        }
+
+        static Bitmap of(List<Integer> rows, int size) {
+            if (rows.size() < (size >>> 6)) {
+                return new Bitmap(
+                        null, rows.stream().mapToInt(Integer::intValue).toArray());
+            }
+            long[] words = new long[(size + 63) >>> 6];
+            for (int row : rows) {
+                words[row >>> 6] |= 1L << row;
+            }
+            return new Bitmap(words, null);
+        }
+
+        void andInto(long[] result) {
+            if (words != null) {
+                for (int i = 0; i < result.length; i++) {
+                    result[i] &= words[i];
+                }
+                return;
+            }
+            long[] sparse = new long[result.length];
+            for (int row : rows) {
+                int w = row >>> 6;
+                sparse[w] |= result[w] & (1L << row);
+            }
+            System.arraycopy(sparse, 0, result, 0, result.length);
+        }
+    }
+
+    /**
+     * Range-encoded bitmaps over an integer attribute.
+     */
+    private static final class RangeEncodedIndex {
+
+        private final int[] values;
+
+        private final boolean[] present;
+
+        private final int[] cuts;
+
+        private final long[][] atMost;
+
+        RangeEncodedIndex(List<EmployeeDto> employees, Function<EmployeeDto, Integer> attribute) {
+            int size = employees.size();
+            this.values = new int[size];
+            this.present = new boolean[size];
+            int[] sorted = new int[size];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                Integer value = attribute.apply(employees.get(row));
+                if (value != null) {
+                    values[row] = value;
+                    present[row] = true;
+                    sorted[count++] = value;
+                }
+            }
+            sorted = Arrays.copyOf(sorted, count);
+            Arrays.sort(sorted);
+            this.cuts = cutPoints(sorted);
+
+            int words = (size + 63) >>> 6;
+            this.atMost = new long[cuts.length][];
+            long[] bins = new long[words * cuts.length];
+            for (int row = 0; row < size; row++) {
+                if (present[row]) {
+                    int bin = lowerBound(cuts, values[row]);
+                    bins[bin * words + (row >>> 6)] |= 1L << row;
+                }
+            }
+            long[] cumulative = new long[words];
+            for (int j = 0; j < cuts.length; j++) {
+                for (int w = 0; w < words; w++) {
+                    cumulative[w] |= bins[j * words + w];
+                }
+                atMost[j] = cumulative.clone();
+            }
+        }
+
+        /**
+         * ANDs rows with value in [min, max] into {@code result}; null bounds are open.
+         */
+        void and(long[] result, Integer min, Integer max) {
+            if (cuts.length == 0 || (min != null && max != null && min > max)) {
+                Arrays.fill(result, 0L);
+                return;
+            }
+            long[] upper = max == null ? atMost[cuts.length - 1] : atMost(max);
+            long[] lower = min == null || min == Integer.MIN_VALUE ? null : atMost(min - 1);
+            for (int w = 0; w < result.length; w++) {
+                long word = upper[w];
+                if (lower != null) {
+                    word &= ~lower[w];
+                }
+                result[w] &= word;
+            }
+        }
+
+        /**
+         * Rows with value less than or equal to {@code value}; the boundary bin is resolved row by row.
+         */
+        private long[] atMost(int value) {
+            int bin = lowerBound(cuts, value);
+            if (bin < cuts.length && cuts[bin] == value) {
+                return atMost[bin];
+            }
+            if (bin == cuts.length) {
+                return atMost[cuts.length - 1];
+            }
+            long[] below = bin == 0 ? null : atMost[bin - 1];
+            long[] exact = below == null ? new long[atMost[bin].length] : below.clone();
+            long[] boundary = atMost[bin];
+            for (int w = 0; w < boundary.length; w++) {
+                long candidates = below == null ? boundary[w] : boundary[w] & ~below[w];
+                while (candidates != 0) {
+                    int row = (w << 6) + Long.numberOfTrailingZeros(candidates);
+                    if (values[row] <= value) {
+                        exact[w] |= 1L << row;
+                    }
+                    candidates &= candidates - 1;
+                }
+            }
+            return exact;
+        }
+
+        private static int[] cutPoints(int[] sorted) {
+            int[] distinct = Arrays.stream(sorted).distinct().toArray();
+            if (distinct.length <= MAX_RANGE_BINS) {
+                return distinct;
+            }
+            int[] cuts = new int[MAX_RANGE_BINS];
+            int count = 0;
+            for (int j = 1; j <= MAX_RANGE_BINS; j++) {
+                int cut = sorted[(int) ((long) sorted.length * j / MAX_RANGE_BINS) - 1];
+                if (count == 0 || cuts[count - 1] != cut) {
+                    cuts[count++] = cut;
+                }
+            }
+            return Arrays.copyOf(cuts, count);
+        }
+
+        /**
+         * First cut point greater than or equal to {@code value}.
+         */
+        private static int lowerBound(int[] cuts, int value) {
+            int low = 0;
+            int high = cuts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cuts[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.reliaquest.api.service.index;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix completion over employee names. Built once per roster version.
+ * <p>
+ * Lower-cased names are indexed under the full name and under every later word, so both "jo" and "smi" complete "John
+ * Smith". The keys form a radix trie laid out in flat arrays: each node stores its edge label as a slice of one of the
+ * sorted keys, its children are contiguous and ordered by first character, and it carries the best
+ * {@link #MAX_SUGGESTIONS} employees below it, ranked by descending salary. A lookup walks at most one node per
+ * character of the prefix and copies the precomputed suggestions.
+ */
+public class NameTypeaheadIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Comparator<EmployeeDto> BY_RANK = Comparator.comparing(
+                    EmployeeDto::getEmployeeSalary, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(EmployeeDto::getEmployeeName);
+
+    private final List<EmployeeDto> ranked;
+
+    private final String[] keys;
+
+    private final int[] labelKey;
+
+    private final int[] labelStart;
+
+    private final int[] labelEnd;
+
+    private final int[] firstChild;
+
+    private final int[] childCount;
+
+    private final int[] suggestionStart;
+
+    private final int[] suggestionCount;
+
+    private final int[] suggestions;
+
+    private NameTypeaheadIndex(List<EmployeeDto> ranked, String[] keys, int[] ranks) {
+        this.ranked = ranked;
+        this.keys = keys;
+        int capacity = 2 * keys.length + 1;
+        this.labelKey = new int[capacity];
+        this.labelStart = new int[capacity];
+        this.labelEnd = new int[capacity];
+        this.firstChild = new int[capacity];
+        this.childCount = new int[capacity];
+        this.suggestionStart = new int[capacity];
+        this.suggestionCount = new int[capacity];
+        Builder builder = new Builder(ranks, capacity);
+        builder.build(0, 0, keys.length, 0);
+        this.suggestions = Arrays.copyOf(builder.pool, builder.poolSize);
+    }
+
+    /**
+     * Builds the index for the given roster. Employees without a name are not indexed.
+     *
+     * @param employees roster to index, must not change afterwards
+     * @return {@link NameTypeaheadIndex}
+     */
+    public static NameTypeaheadIndex of(List<EmployeeDto> employees) {
+        List<EmployeeDto> ranked = employees.stream()
+                .filter(employee -> employee.getEmployeeName() != null
+                        && !employee.getEmployeeName().isBlank())
+                .sorted(BY_RANK)
+                .toList();
+
+        List<Entry> entries = new ArrayList<>();
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            String name = normalize(ranked.get(rank).getEmployeeName()).strip();
+            entries.add(new Entry(name, rank));
+            for (int space = name.indexOf(' '); space >= 0; space = name.indexOf(' ', space + 1)) {
+                entries.add(new Entry(name.substring(space + 1), rank));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key).thenComparingInt(Entry::rank));
+
+        String[] keys = new String[entries.size()];
+        int[] ranks = new int[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).key();
+            ranks[i] = entries.get(i).rank();
+        }
+        return new NameTypeaheadIndex(ranked, keys, ranks);
+    }
+
+    /**
+     * Highest ranked employees having a name word that starts with {@code prefix}, ignoring case. Whitespace is
+     * collapsed, so a trailing space only matches names that continue with another word.
+     *
+     * @param prefix beginning of a first, middle or last name, possibly followed by further words
+     * @param limit  maximum number of employees, at most {@link #MAX_SUGGESTIONS}
+     * @return employees ordered by descending salary
+     */
+    public List<EmployeeDto> complete(String prefix, int limit) {
+        if (limit <= 0 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException(
+                    "Limit must be between 1 and " + MAX_SUGGESTIONS + ". Provided: " + limit);
+        }
+        String query = normalize(prefix).stripLeading();
+        int node = 0;
+        while (true) {
+            for (int depth = labelStart[node]; depth < labelEnd[node]; depth++) {
+                if (depth == query.length()) {
+                    return suggestionsOf(node, limit);
+                }
+                if (keys[labelKey[node]].charAt(depth) != query.charAt(depth)) {
+                    return List.of();
+                }
+            }
+            if (labelEnd[node] == query.length()) {
+                return suggestionsOf(node, limit);
+            }
+            node = child(node, query.charAt(labelEnd[node]));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+    }
+
+    public int size() {
+        return ranked.size();
+    }
+
+    private List<EmployeeDto> suggestionsOf(int node, int limit) {
+        int count = Math.min(limit, suggestionCount[node]);
+        List<EmployeeDto> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(ranked.get(suggestions[suggestionStart[node] + i]));
+        }
+        return result;
+    }
+
+    /**
+     * Binary search over the children of {@code node}, which are ordered by the first character of their label.
+     */
+    private int child(int node, char next) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = keys[labelKey[mid]].charAt(labelStart[mid]);
+            if (first < next) {
+                low = mid + 1;
+            } else if (first > next) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String value) {
+        return WHITESPACE.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private record Entry(String key, int rank) {}
+
+    /**
+     * Lays out the trie depth first from the sorted keys: the keys below a node are a contiguous range, so a node's
+     * label ends at the longest common prefix of the first and last key of its range.
+     */
+    private final class Builder {
+
+        private final int[] ranks;
+
+        private int[] pool;
+
+        private int poolSize;
+
+        private int nodeCount = 1;
+
+        private Builder(int[] ranks, int capacity) {
+            this.ranks = ranks;
+            this.pool = new int[Math.max(MAX_SUGGESTIONS, capacity)];
+        }
+
+        private void build(int node, int from, int to, int parentDepth) {
+            int depth = from == to ? 0 : commonPrefix(keys[from], keys[to - 1]);
+            labelKey[node] = from == to ? 0 : from;
+            labelStart[node] = parentDepth;
+            labelEnd[node] = depth;
+
+            // Keys ending at this node sort before the longer ones.
+            int position = from;
+            while (position < to && keys[position].length() == depth) {
+                position++;
+            }
+            int children = 0;
+            for (int i = position; i < to; i = groupEnd(i, to, depth)) {
+                children++;
+            }
+            firstChild[node] = nodeCount;
+            childCount[node] = children;
+            nodeCount += children;
+
+            int[] candidates = new int[(position - from) + children * MAX_SUGGESTIONS];
+            int candidateCount = 0;
+            for (int i = from; i < position; i++) {
+                candidates[candidateCount++] = ranks[i];
+            }
+            int child = firstChild[node];
+            for (int i = position; i < to; child++) {
+                int end = groupEnd(i, to, depth);
+                build(child, i, end, depth);
+                for (int s = 0; s < suggestionCount[child]; s++) {
+                    candidates[candidateCount++] = pool[suggestionStart[child] + s];
+                }
+                i = end;
+            }
+
+            Arrays.sort(candidates, 0, candidateCount);
+            suggestionStart[node] = poolSize;
+            int kept = 0;
+            for (int i = 0; i < candidateCount && kept < MAX_SUGGESTIONS; i++) {
+                if (i == 0 || candidates[i] != candidates[i - 1]) {
+                    append(candidates[i]);
+                    kept++;
+                }
+            }
+            suggestionCount[node] = kept;
+        }
+
+        private int groupEnd(int from, int to, int depth) {
+            char first = keys[from].charAt(depth);
+            int end = from + 1;
+            while (end < to && keys[end].charAt(depth) == first) {
+                end++;
+            }
+            return end;
+        }
+
+        private void append(int rank) {
+            if (poolSize == pool.length) {
+                pool = Arrays.copyOf(pool, pool.length * 2);
+            }
+            pool[poolSize++] = rank;
+        }
+    }
+}
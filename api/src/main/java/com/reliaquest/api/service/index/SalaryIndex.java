@@ -0,0 +1,170 @@
+package com.reliaquest.api.service.index;
+
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.SalaryBucketDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Sorted primitive index over employee salaries. Built once per roster version; percentile lookups are O(1) and range
+ * counts O(log n) binary searches over the sorted salary array.
+ */
+public class SalaryIndex {
+
+    private final int[] salaries;
+
+    private final int[] positions;
+
+    private final List<EmployeeDto> employees;
+
+    private SalaryIndex(int[] salaries, int[] positions, List<EmployeeDto> employees) {
+        this.salaries = salaries;
+        this.positions = positions;
+        this.employees = employees;
+    }
+
+    /**
+     * Builds the index for the given roster. Employees without a salary are not indexed.
+     *
+     * @param employees roster to index, must not change afterwards
+     * @return {@link SalaryIndex}
+     */
+    public static SalaryIndex of(List<EmployeeDto> employees) {
+        // Pack salary and roster position into one long so a single primitive sort orders both.
+        long[] packed = new long[employees.size()];
+        int size = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            Integer salary = employees.get(i).getEmployeeSalary();
+            if (salary != null) {
+                packed[size++] = ((long) salary << 32) | i;
+            }
+        }
+        Arrays.sort(packed, 0, size);
+
+        int[] salaries = new int[size];
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            salaries[i] = (int) (packed[i] >> 32);
+            positions[i] = (int) packed[i];
+        }
+        return new SalaryIndex(salaries, positions, employees);
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    /**
+     * Nearest-rank percentile.
+     *
+     * @param percentile percentile in [0, 100]
+     * @return salary at the percentile, empty when nothing is indexed
+     */
+    public OptionalInt percentile(double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100. Provided: " + percentile);
+        }
+        if (salaries.length == 0) {
+            return OptionalInt.empty();
+        }
+        int rank = (int) Math.ceil(percentile / 100 * salaries.length);
+        return OptionalInt.of(salaries[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * Number of employees whose salary lies in [min, max].
+     */
+    public int countInRange(int min, int max) {
+        if (min > max) {
+            return 0;
+        }
+        return upperBound(max) - lowerBound(min);
+    }
+
+    /**
+     * Employees whose salary lies in [min, max], ordered by ascending salary.
+     */
+    public List<EmployeeDto> employeesInRange(int min, int max) {
+        if (min > max) {
+            return List.of();
+        }
+        int from = lowerBound(min);
+        int to = upperBound(max);
+        List<EmployeeDto> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(employees.get(positions[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Splits [lowest salary, highest salary] into exactly {@code buckets} contiguous buckets whose widths differ by at
+     * most one and counts the employees in each. When the range holds fewer salaries than buckets, the buckets are one
+     * salary wide and the trailing ones are empty.
+     *
+     * @param buckets number of buckets
+     * @return histogram, empty when nothing is indexed
+     */
+    public List<SalaryBucketDto> histogram(int buckets) {
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("Number of buckets must be positive. Provided: " + buckets);
+        }
+        if (salaries.length == 0) {
+            return List.of();
+        }
+        long lowest = salaries[0];
+        long span = salaries[salaries.length - 1] - lowest + 1;
+        if (span < buckets) {
+            lowest = Math.min(lowest, (long) Integer.MAX_VALUE - buckets + 1);
+            span = buckets;
+        }
+
+        List<SalaryBucketDto> histogram = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            int lower = (int) (lowest + span * i / buckets);
+            int upper = (int) (lowest + span * (i + 1) / buckets - 1);
+            histogram.add(SalaryBucketDto.builder()
+                    .lowerBound(lower)
+                    .upperBound(upper)
+                    .count(countInRange(lower, upper))
+                    .build());
+        }
+        return histogram;
+    }
+
+    /**
+     * First position whose salary is greater than or equal to {@code value}.
+     */
+    private int lowerBound(int value) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First position whose salary is greater than {@code value}.
+     */
+    private int upperBound(int value) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.api.service.peer;
+
+import com.reliaquest.api.model.EmployeeDeltaDto;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Keeps the rosters and caches of several api instances in step without each of them going back to the employee
+ * service. A create or delete made through this instance is posted as a delta to every configured peer, which patches
+ * its own roster and cache with it; peers never forward deltas, and deltas carrying this instance's own node id are
+ * ignored, so a peer list that includes this instance does not cause loops.
+ * <p>
+ * Delivery is best effort: a peer that misses a delta catches up on its next roster refresh.
+ * <p>
+ * Syncing is only enabled when both peers and a shared token are configured. Otherwise nothing is sent and the
+ * receiving endpoint answers as if it did not exist, as it is served on the public port.
+ */
+@Slf4j
+@Component
+public class EmployeePeerSync {
+
+    public static final String PATH = "/internal/peers/deltas";
+
+    public static final String TOKEN_HEADER = "X-Peer-Token";
+
+    private final EmployeeRosterService employeeRosterService;
+
+    private final EmployeeCache employeeCache;
+
+    private final WebClient webClient;
+
+    private final List<String> peerUrls;
+
+    @Getter
+    private final String nodeId;
+
+    private final String token;
+
+    @Getter
+    private final boolean enabled;
+
+    public EmployeePeerSync(
+            EmployeeRosterService employeeRosterService,
+            EmployeeCache employeeCache,
+            WebClient.Builder webClientBuilder,
+            @Value("${employee.peers.urls:}") List<String> peerUrls,
+            @Value("${employee.peers.node-id:}") String nodeId,
+            @Value("${employee.peers.token:}") String token,
+            @Value("${employee.peers.timeout:500ms}") Duration timeout) {
+        this.employeeRosterService = employeeRosterService;
+        this.employeeCache = employeeCache;
+        this.peerUrls = peerUrls.stream().filter(url -> !url.isBlank()).toList();
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.token = token;
+        this.webClient = webClientBuilder
+                .clientConnector(
+                        new ReactorClientHttpConnector(HttpClient.create().responseTimeout(timeout)))
+                .build();
+        this.enabled = !this.peerUrls.isEmpty() && !token.isBlank();
+        if (enabled) {
+            log.info("Sending roster deltas as node {} to peers {}", this.nodeId, this.peerUrls);
+        } else if (!this.peerUrls.isEmpty()) {
+            log.warn("Peer sync is disabled as no employee.peers.token is configured");
+        }
+    }
+
+    public void broadcastCreated(EmployeeDto employee) {
+        if (employee != null) {
+            broadcast(EmployeeDeltaDto.builder()
+                    .type(EmployeeDeltaDto.Type.CREATED)
+                    .id(employee.getId())
+                    .employee(employee)
+                    .build());
+        }
+    }
+
+    public void broadcastDeleted(UUID id) {
+        broadcast(EmployeeDeltaDto.builder()
+                .type(EmployeeDeltaDto.Type.DELETED)
+                .id(id)
+                .build());
+    }
+
+    /**
+     * Applies a delta received from a peer.
+     *
+     * @return false when the delta was ignored because it originated here or is incomplete
+     */
+    public boolean apply(EmployeeDeltaDto delta) {
+        if (delta == null || delta.getType() == null || delta.getId() == null || nodeId.equals(delta.getOrigin())) {
+            return false;
+        }
+        switch (delta.getType()) {
+            case CREATED -> {
+                if (delta.getEmployee() == null) {
+                    return false;
+                }
+                employeeRosterService.applyCreated(delta.getEmployee());
+                employeeCache.put(delta.getEmployee());
+            }
+            case DELETED -> {
+                employeeRosterService.applyDeleted(delta.getId());
+                employeeCache.invalidate(delta.getId());
+            }
+        }
+        log.debug("Applied {} of employee {} from peer {}", delta.getType(), delta.getId(), delta.getOrigin());
+        return true;
+    }
+
+    /**
+     * @return whether syncing is enabled and {@code presented} matches the configured token, compared in constant time
+     */
+    public boolean isAuthorized(String presented) {
+        return enabled
+                && presented != null
+                && MessageDigest.isEqual(
+                        token.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void broadcast(EmployeeDeltaDto delta) {
+        if (!enabled) {
+            return;
+        }
+        delta.setOrigin(nodeId);
+        for (String peerUrl : peerUrls) {
+            webClient
+                    .post()
+                    .uri(peerUrl + PATH)
+                    .header(TOKEN_HEADER, token)
+                    .bodyValue(delta)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .subscribe(
+                            ignored -> {},
+                            ex -> log.warn(
+                                    "Could not send {} of employee {} to peer {}: {}",
+                                    delta.getType(),
+                                    delta.getId(),
+                                    peerUrl,
+                                    ex.toString()));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.api.service.remote;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceRemoteException;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import com.reliaquest.api.service.remote.dto.GetEmployeeResponseDto;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent lookups by id into batched upstream calls, DataLoader style. The first lookup to arrive opens a
+ * batch and waits up to {@code window} for others to join, or until the batch holds {@code max-batch-size} ids, then
+ * fetches the whole batch with one multi-get and hands every waiting caller its own result. Concurrent lookups of the
+ * same id share one slot. A lookup made while no other lookup is in flight skips the window and uses the plain
+ * lookup, so a quiet api sees no added latency; batching only starts once lookups overlap.
+ * <p>
+ * When the multi-get is answered from the last known good roster, ids missing from it fail as unavailable rather than
+ * not found, since the stale roster cannot tell whether they exist.
+ * <p>
+ * The opening caller does the fetch on its own thread; no extra threads are involved.
+ */
+@Slf4j
+@Component
+public class EmployeeLookupBatcher {
+
+    private final EmployeeRemoteService employeeRemoteService;
+
+    @Getter
+    private final boolean enabled;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+
+    private Batch open;
+
+    private int inFlight;
+
+    public EmployeeLookupBatcher(
+            EmployeeRemoteService employeeRemoteService,
+            @Value("${employee.lookup-batching.enabled:false}") boolean enabled,
+            @Value("${employee.lookup-batching.window:2ms}") Duration window,
+            @Value("${employee.lookup-batching.max-batch-size:100}") int maxBatchSize) {
+        this.employeeRemoteService = employeeRemoteService;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Looks up an employee, batched with concurrent lookups when enabled.
+     *
+     * @throws EmployeeNotFoundException when the upstream does not know the id
+     */
+    public GetEmployeeResponseDto load(UUID id) {
+        if (!enabled) {
+            return employeeRemoteService.getEmployeeById(id);
+        }
+        Batch batch;
+        CompletableFuture<GetEmployeeResponseDto> result;
+        boolean leader = false;
+        boolean alone;
+        synchronized (lock) {
+            inFlight++;
+            alone = inFlight == 1;
+            if (open == null) {
+                open = new Batch(System.nanoTime() + windowNanos);
+                leader = true;
+            }
+            batch = open;
+            result = batch.lookups.computeIfAbsent(id, ignored -> new CompletableFuture<>());
+            if (alone || batch.lookups.size() >= maxBatchSize) {
+                open = null;
+                lock.notifyAll();
+            }
+        }
+        try {
+            if (leader) {
+                awaitClose(batch);
+                dispatch(batch);
+            }
+            return result.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        } finally {
+            synchronized (lock) {
+                inFlight--;
+            }
+        }
+    }
+
+    private void awaitClose(Batch batch) {
+        synchronized (lock) {
+            long remaining;
+            while (open == batch && (remaining = batch.closesAtNanos - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (open == batch) {
+                open = null;
+            }
+        }
+    }
+
+    /*
+     * The batch is closed, so its map is no longer modified by other threads.
+     */
+    private void dispatch(Batch batch) {
+        Map<UUID, CompletableFuture<GetEmployeeResponseDto>> lookups = batch.lookups;
+        if (lookups.size() == 1) {
+            Map.Entry<UUID, CompletableFuture<GetEmployeeResponseDto>> lookup =
+                    lookups.entrySet().iterator().next();
+            try {
+                lookup.getValue().complete(employeeRemoteService.getEmployeeById(lookup.getKey()));
+            } catch (RuntimeException ex) {
+                lookup.getValue().completeExceptionally(ex);
+            }
+            return;
+        }
+        log.debug("Fetching {} batched employee lookups", lookups.size());
+        try {
+            GetAllEmployeesResponseDto response =
+                    employeeRemoteService.getEmployeesByIds(List.copyOf(lookups.keySet()));
+            Map<UUID, EmployeeDto> found = response.getData().stream()
+                    .collect(Collectors.toMap(EmployeeDto::getId, Function.identity(), (first, second) -> first));
+            RuntimeException missing = response.getStaleAsOf() == null
+                    ? EmployeeNotFoundException.EMPLOYEE_NOT_FOUND
+                    : new EmployeeServiceRemoteException(
+                            "Employee service is temporarily unavailable. Please try again later.");
+            lookups.forEach((id, lookup) -> {
+                EmployeeDto employee = found.get(id);
+                if (employee == null) {
+                    lookup.completeExceptionally(missing);
+                } else {
+                    lookup.complete(GetEmployeeResponseDto.builder()
+                            .data(employee)
+                            .status(response.getStatus())
+                            .staleAsOf(response.getStaleAsOf())
+                            .build());
+                }
+            });
+        } catch (RuntimeException ex) {
+            lookups.values().forEach(lookup -> lookup.completeExceptionally(ex));
+        }
+    }
+
+    private static final class Batch {
+
+        private final long closesAtNanos;
+
+        private final Map<UUID, CompletableFuture<GetEmployeeResponseDto>> lookups = new LinkedHashMap<>();
+
+        Batch(long closesAtNanos) {
+            this.closesAtNanos = closesAtNanos;
+        }
+    }
+}
@@ -4,59 +4,125 @@ import com.reliaquest.api.config.AppConfig;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.EmployeeServiceRemoteException;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.EmployeeDto;
 import com.reliaquest.api.model.EmployeeRequestDto;
 import com.reliaquest.api.service.remote.dto.DeleteEmployeeRequestDto;
 import com.reliaquest.api.service.remote.dto.DeleteEmployeeResponseDto;
 import com.reliaquest.api.service.remote.dto.EmployeeResponseDto;
 import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
 import com.reliaquest.api.service.remote.dto.GetEmployeeResponseDto;
+import com.reliaquest.api.service.remote.dto.GetEmployeesByIdsRequestDto;
+import com.reliaquest.api.service.remote.dto.GetHighestSalaryResponseDto;
+import com.reliaquest.api.service.remote.shard.EmployeeShards;
+import com.reliaquest.api.service.remote.shard.TopEarnersMerger;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * This Java class, EmployeeRemoteService, is a Spring service designed to manage employee-related operations
  *  by interacting with a remote employee service. It employs Resilience4j annotations for fault tolerance,
- *  including retry, circuit breaker, time limiter, and bulkhead patterns. The service provides methods to
+ *  including retry, circuit breaker, time limiter, and bulkhead patterns, with separate instances for list reads
+ *  ({@code employeeList}), point lookups ({@code employeeLookup}) and writes ({@code employeeWrite}) so that failures
+ *  or slowness of one kind of call do not trip or starve the others. The service provides methods to
  *  retrieve all employees, fetch an employee by ID, delete an employee by name, and create a new employee.
  *  Each method constructs the appropriate HTTP request using Spring's WebClient and handles responses,
- *  throwing custom exceptions for various error scenarios. A fallback method is provided for handling
- *  failures in retrieving all employees, returning an empty response.
+ *  throwing custom exceptions for various error scenarios. When the remote service fails, the circuit is open
+ *  or the bulkhead is full, reads fall back to the last known good roster (see {@link LastKnownGoodRoster}).
+ *  Lookups by ID can optionally be hedged through {@link HedgingPolicy} to cut tail latency.
+ *  When several upstream shards are configured (see {@link EmployeeShards}), point operations are routed to the
+ *  owning shard while list and top-N reads scatter-gather across all shards in parallel. The highest salary, the
+ *  top earners and name searches are pushed down to the employee service when it supports them, so only their
+ *  results cross the network.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmployeeRemoteService {
+
+    private static final String STALE_STATUS = "Served from last known good roster.";
+    private static final String MERGED_STATUS = "Successfully processed request.";
+    private static final Duration PUSH_DOWN_RECHECK = Duration.ofMinutes(5);
+
     @Qualifier("employeeServiceClient") private final WebClient webClient;
 
     private final AppConfig appConfig;
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "getAllEmployeesFallback")
-    @TimeLimiter(name = "employeeService")
-    @Bulkhead(name = "employeeService", type = Bulkhead.Type.SEMAPHORE)
+    private final HedgingPolicy hedgingPolicy;
+
+    private final LastKnownGoodRoster lastKnownGoodRoster;
+
+    private final EmployeeShards employeeShards;
+
+    private final RetryBudget retryBudget;
+
+    /*
+     * Until when each push-down path, keyed by its template, is known to be missing on some shard.
+     */
+    private final Map<String, Instant> pushDownUnsupportedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * Runs on the {@code employeeList} thread-pool bulkhead, so slow roster fetches queue there instead of occupying
+     * the threads that serve point lookups and writes.
+     */
+    @Retry(name = "employeeList")
+    @CircuitBreaker(name = "employeeList", fallbackMethod = "getAllEmployeesFallback")
+    @TimeLimiter(name = "employeeList")
+    @Bulkhead(name = "employeeList", type = Bulkhead.Type.THREADPOOL)
     public CompletableFuture<GetAllEmployeesResponseDto> getAllEmployees() {
-        return CompletableFuture.supplyAsync(() -> {
-            String employeeServiceUrl = getEmployeeServiceUrl();
-            try {
+        String employeeServiceUrl = getEmployeeServiceUrl();
+        try {
+            GetAllEmployeesResponseDto body;
+            if (employeeShards.isSharded()) {
+                body = GetAllEmployeesResponseDto.builder()
+                        .data(fetchAllShards().stream().flatMap(List::stream).toList())
+                        .status(MERGED_STATUS)
+                        .build();
+            } else {
                 ResponseEntity<GetAllEmployeesResponseDto> response = getAllEmployees(employeeServiceUrl);
-                return handleServiceResponse(response, "fetching all employees");
-            } catch (WebClientException ex) {
-                handleWebClientException();
-                throw new RuntimeException("Failed to fetch employees", ex);
+                body = handleServiceResponse(response, "fetching all employees");
             }
-        });
+            lastKnownGoodRoster.record(body.getData());
+            return CompletableFuture.completedFuture(body);
+        } catch (WebClientException ex) {
+            return CompletableFuture.failedFuture(new EmployeeServiceRemoteException(
+                    "Error connecting to employee service. Please try again later."));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
     }
 
     private ResponseEntity<GetAllEmployeesResponseDto> getAllEmployees(String url) {
@@ -67,38 +133,231 @@ public class EmployeeRemoteService {
                 .block();
     }
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "getAllEmployeesFallback")
-    @TimeLimiter(name = "employeeService")
-    @Bulkhead(name = "employeeService", type = Bulkhead.Type.SEMAPHORE)
+    /**
+     * Fetches every shard's roster in parallel.
+     *
+     * @return one roster per shard, in shard order
+     */
+    private List<List<EmployeeDto>> fetchAllShards() {
+        String resourceUrl = appConfig.getEmployeeServiceResourceUrl();
+        return Flux.fromIterable(employeeShards.getBaseUrls())
+                .flatMapSequential(
+                        baseUrl -> webClient
+                                .get()
+                                .uri(baseUrl + resourceUrl)
+                                .exchangeToMono(response -> response.toEntity(GetAllEmployeesResponseDto.class))
+                                .map(response ->
+                                        handleServiceResponse(response, "fetching employees from shard " + baseUrl))
+                                .map(body -> body.getData() == null ? List.<EmployeeDto>of() : body.getData()),
+                        employeeShards.size())
+                .collectList()
+                .block();
+    }
+
+    /**
+     * Highest salary, computed by the employee service next to the data. Returns empty when the remote service does
+     * not support the aggregate (or holds no employees), or cannot be reached while a roster exists, in which case
+     * callers compute the result from their cached roster. Without a roster failures propagate.
+     *
+     * @return the highest salary across all shards
+     */
+    @Retry(name = "employeeList")
+    @CircuitBreaker(name = "employeeList", fallbackMethod = "getHighestSalaryFallback")
+    @Bulkhead(name = "employeeList", type = Bulkhead.Type.SEMAPHORE)
+    public OptionalInt getHighestSalary() {
+        try {
+            return pushDown(GetHighestSalaryResponseDto.class, "/aggregates/highestSalary")
+                    .map(bodies -> bodies.stream()
+                            .map(GetHighestSalaryResponseDto::getData)
+                            .filter(Objects::nonNull)
+                            .mapToInt(Integer::intValue)
+                            .max())
+                    .orElseGet(OptionalInt::empty);
+        } catch (WebClientException ex) {
+            handleWebClientException();
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Highest earners, computed by each shard next to its data and merged with a k-way merge. Against a remote service
+     * without the aggregate endpoint, shards are asked for their full rosters instead when sharded. Returns empty when
+     * there is no remote shortcut, or the remote service cannot be reached while a roster exists, in which case callers
+     * compute the result from their cached roster. Without a roster failures propagate.
+     *
+     * @param limit number of employees to return
+     * @return employees ordered by descending salary
+     */
+    @Retry(name = "employeeList")
+    @CircuitBreaker(name = "employeeList", fallbackMethod = "getTopEarningEmployeesFallback")
+    @Bulkhead(name = "employeeList", type = Bulkhead.Type.SEMAPHORE)
+    public Optional<List<EmployeeDto>> getTopEarningEmployees(int limit) {
+        try {
+            Optional<List<EmployeeDto>> pushedDown = pushDown(
+                            GetAllEmployeesResponseDto.class, "/aggregates/topEarners?limit={limit}", limit)
+                    .map(bodies -> TopEarnersMerger.merge(
+                            bodies.stream().map(EmployeeRemoteService::dataOf).toList(), limit));
+            if (pushedDown.isPresent() || !employeeShards.isSharded()) {
+                return pushedDown;
+            }
+            List<List<EmployeeDto>> shardTops = fetchAllShards().stream()
+                    .map(employees -> TopEarnersMerger.topOf(employees, limit))
+                    .toList();
+            return Optional.of(TopEarnersMerger.merge(shardTops, limit));
+        } catch (WebClientException ex) {
+            handleWebClientException();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Employees whose name contains {@code name}, ignoring case, filtered by the employee service. Returns empty when
+     * the remote service does not support the search, or cannot be reached while a roster exists, in which case callers
+     * filter their cached roster. Without a roster failures propagate.
+     *
+     * @param name fragment of the employee name
+     * @return the matching employees of all shards
+     */
+    @Retry(name = "employeeList")
+    @CircuitBreaker(name = "employeeList", fallbackMethod = "searchEmployeesByNameFallback")
+    @Bulkhead(name = "employeeList", type = Bulkhead.Type.SEMAPHORE)
+    public Optional<List<EmployeeDto>> searchEmployeesByName(String name) {
+        try {
+            return pushDown(GetAllEmployeesResponseDto.class, "/query/search?name={name}", name)
+                    .map(bodies -> bodies.stream()
+                            .map(EmployeeRemoteService::dataOf)
+                            .flatMap(List::stream)
+                            .toList());
+        } catch (WebClientException ex) {
+            handleWebClientException();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Runs a query on every shard, next to its data. When a shard does not know the endpoint (an employee service
+     * predating it) this returns empty and push-down of that path is not attempted again for
+     * {@link #PUSH_DOWN_RECHECK}; the other paths are tracked separately.
+     *
+     * @return one response body per shard, in shard order
+     */
+    private <T> Optional<List<T>> pushDown(Class<T> responseType, String path, Object... uriVariables) {
+        if (Instant.now().isBefore(pushDownUnsupportedUntil.getOrDefault(path, Instant.MIN))) {
+            return Optional.empty();
+        }
+        String resourceUrl = appConfig.getEmployeeServiceResourceUrl();
+        List<Optional<T>> bodies = Flux.fromIterable(employeeShards.getBaseUrls())
+                .flatMapSequential(
+                        baseUrl -> webClient
+                                .get()
+                                .uri(baseUrl + resourceUrl + path, uriVariables)
+                                .exchangeToMono(response -> response.toEntity(responseType))
+                                .map(response -> isUnsupported(response)
+                                        ? Optional.<T>empty()
+                                        : Optional.ofNullable(handleServiceResponse(
+                                                response, "querying " + path + " on " + baseUrl))),
+                        Math.max(1, employeeShards.size()))
+                .collectList()
+                .block();
+        if (bodies == null || bodies.isEmpty() || bodies.stream().anyMatch(Optional::isEmpty)) {
+            log.info("Employee service does not support {}, computing locally for {}", path, PUSH_DOWN_RECHECK);
+            pushDownUnsupportedUntil.put(path, Instant.now().plus(PUSH_DOWN_RECHECK));
+            return Optional.empty();
+        }
+        return Optional.of(bodies.stream().map(Optional::get).toList());
+    }
+
+    private static boolean isUnsupported(ResponseEntity<?> response) {
+        HttpStatusCode status = response.getStatusCode();
+        return status.isSameCodeAs(HttpStatus.NOT_FOUND)
+                || status.isSameCodeAs(HttpStatus.METHOD_NOT_ALLOWED)
+                || status.isSameCodeAs(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    private static List<EmployeeDto> dataOf(GetAllEmployeesResponseDto body) {
+        return body.getData() == null ? List.of() : body.getData();
+    }
+
+    @Retry(name = "employeeLookup")
+    @CircuitBreaker(name = "employeeLookup", fallbackMethod = "getEmployeeByIdFallback")
+    @Bulkhead(name = "employeeLookup", type = Bulkhead.Type.SEMAPHORE)
     public GetEmployeeResponseDto getEmployeeById(UUID id) {
-        String employeeServiceUrl = getEmployeeServiceUrl() + "/" + id;
+        String employeeServiceUrl = getEmployeeServiceUrl(id) + "/" + id;
         try {
-            ResponseEntity<GetEmployeeResponseDto> response = getEmployeeById(employeeServiceUrl);
-            if (response == null) {
-                throw new EmployeeNotFoundException("Employee not found");
+            GetEmployeeResponseDto body = getEmployeeById(employeeServiceUrl, "fetching employee by ID: " + id);
+            if (body == null) {
+                throw EmployeeNotFoundException.EMPLOYEE_NOT_FOUND;
             }
-            return handleServiceResponse(response, "fetching employee by ID: " + id);
+            return body;
         } catch (WebClientException ex) {
             handleWebClientException();
             return null;
         }
     }
 
-    private ResponseEntity<GetEmployeeResponseDto> getEmployeeById(String url) {
-        return webClient
+    /**
+     * Looks up several employees with one upstream call per owning shard, made in parallel. Unknown ids are left out
+     * of the result.
+     *
+     * @param ids employee ids, without duplicates
+     * @return the employees found
+     */
+    @Retry(name = "employeeLookup")
+    @CircuitBreaker(name = "employeeLookup", fallbackMethod = "getEmployeesByIdsFallback")
+    @Bulkhead(name = "employeeLookup", type = Bulkhead.Type.SEMAPHORE)
+    public GetAllEmployeesResponseDto getEmployeesByIds(Collection<UUID> ids) {
+        Map<String, List<UUID>> idsByUrl = ids.stream()
+                .collect(Collectors.groupingBy(
+                        id -> getEmployeeServiceUrl(id) + "/ids", LinkedHashMap::new, Collectors.toList()));
+        try {
+            List<EmployeeDto> employees = Flux.fromIterable(idsByUrl.entrySet())
+                    .flatMap(
+                            entry -> webClient
+                                    .post()
+                                    .uri(entry.getKey())
+                                    .body(
+                                            Mono.just(new GetEmployeesByIdsRequestDto(entry.getValue())),
+                                            GetEmployeesByIdsRequestDto.class)
+                                    .exchangeToMono(response -> response.toEntity(GetAllEmployeesResponseDto.class))
+                                    .map(response -> handleServiceResponse(response, "fetching employees by ids"))
+                                    .map(body -> body.getData() == null ? List.<EmployeeDto>of() : body.getData()),
+                            Math.max(1, idsByUrl.size()))
+                    .flatMapIterable(shardEmployees -> shardEmployees)
+                    .collectList()
+                    .block();
+            return GetAllEmployeesResponseDto.builder()
+                    .data(employees)
+                    .status(MERGED_STATUS)
+                    .build();
+        } catch (WebClientException ex) {
+            handleWebClientException();
+            return null;
+        }
+    }
+
+    /**
+     * Statuses other than 200 are turned into errors inside each request, so that a hedge answering 429 or 503 fast
+     * cannot win over a primary that is still on its way to a 200.
+     */
+    private GetEmployeeResponseDto getEmployeeById(String url, String operation) {
+        Mono<GetEmployeeResponseDto> request = Mono.defer(() -> webClient
                 .get()
                 .uri(url)
                 .exchangeToMono(response -> response.toEntity(GetEmployeeResponseDto.class))
-                .block();
+                .<GetEmployeeResponseDto>handle((response, sink) -> {
+                    GetEmployeeResponseDto body = handleServiceResponse(response, operation);
+                    if (body != null) {
+                        sink.next(body);
+                    }
+                }));
+        return hedgingPolicy.isEnabled() ? hedgingPolicy.hedge(request).block() : request.block();
     }
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "getAllEmployeesFallback")
-    @TimeLimiter(name = "employeeService")
-    @Bulkhead(name = "employeeService", type = Bulkhead.Type.SEMAPHORE)
-    public DeleteEmployeeResponseDto deleteEmployeeByName(String name) {
-        String employeeServiceUrl = getEmployeeServiceUrl();
+    @Retry(name = "employeeWrite")
+    @CircuitBreaker(name = "employeeWrite", fallbackMethod = "deleteEmployeeByNameFallback")
+    @Bulkhead(name = "employeeWrite", type = Bulkhead.Type.SEMAPHORE)
+    public DeleteEmployeeResponseDto deleteEmployeeByName(String name, UUID id) {
+        String employeeServiceUrl = getEmployeeServiceUrl(id);
         DeleteEmployeeRequestDto request = new DeleteEmployeeRequestDto(name);
         try {
             ResponseEntity<DeleteEmployeeResponseDto> response = deleteEmployee(employeeServiceUrl, request);
@@ -118,8 +377,13 @@ public class EmployeeRemoteService {
                 .block();
     }
 
+    @Retry(name = "employeeWrite")
+    @CircuitBreaker(name = "employeeWrite", fallbackMethod = "createEmployeeFallback")
+    @Bulkhead(name = "employeeWrite", type = Bulkhead.Type.SEMAPHORE)
     public EmployeeResponseDto createEmployee(EmployeeRequestDto employeeRequestDto) {
-        String employeeServiceUrl = getEmployeeServiceUrl();
+        String employeeServiceUrl = employeeShards.isSharded()
+                ? employeeShards.nextBaseUrl() + appConfig.getEmployeeServiceResourceUrl()
+                : getEmployeeServiceUrl();
         try {
             ResponseEntity<EmployeeResponseDto> response = insertEmployee(employeeRequestDto, employeeServiceUrl);
             return handleServiceResponse(response, "creating employee with name: " + employeeRequestDto.getName());
@@ -129,10 +393,6 @@ public class EmployeeRemoteService {
         }
     }
 
-    @Retry(name = "employeeService")
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "getAllEmployeesFallback")
-    @TimeLimiter(name = "employeeService")
-    @Bulkhead(name = "employeeService", type = Bulkhead.Type.SEMAPHORE)
     private ResponseEntity<EmployeeResponseDto> insertEmployee(EmployeeRequestDto employeeRequestDto, String url) {
         return webClient
                 .post()
@@ -145,28 +405,187 @@ public class EmployeeRemoteService {
     private <T> T handleServiceResponse(ResponseEntity<T> response, String operation) {
         HttpStatus status = (HttpStatus) response.getStatusCode();
         if (status == HttpStatus.OK) {
+            retryBudget.recordSuccess();
             return response.getBody();
         } else if (status == HttpStatus.TOO_MANY_REQUESTS) {
-            throw new TooManyRequestsException("Max retries exceeded: 429 Too Many Requests");
+            throw TooManyRequestsException.retryAfter(retryAfter(response.getHeaders()));
         } else if (status == HttpStatus.NOT_FOUND) {
-            throw new EmployeeNotFoundException("Employee not found");
+            throw EmployeeNotFoundException.EMPLOYEE_NOT_FOUND;
         } else {
             throw new EmployeeServiceRemoteException("Error during " + operation + ". Status: " + status);
         }
     }
 
+    /**
+     * Parses {@code Retry-After} given either in seconds or as an HTTP date.
+     */
+    private static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            try {
+                Duration delay = Duration.between(
+                        Instant.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ex) {
+                return null;
+            }
+        }
+    }
+
     private String getEmployeeServiceUrl() {
         return appConfig.getEmployeeServiceBaseUrl() + appConfig.getEmployeeServiceResourceUrl();
     }
 
+    /**
+     * URL of the shard owning the given employee id.
+     */
+    private String getEmployeeServiceUrl(UUID id) {
+        if (!employeeShards.isSharded()) {
+            return getEmployeeServiceUrl();
+        }
+        return employeeShards.baseUrlFor(id) + appConfig.getEmployeeServiceResourceUrl();
+    }
+
     private void handleWebClientException() {
         throw new EmployeeServiceRemoteException("Error connecting to employee service. Please try again later.");
     }
 
+    /**
+     * Serves the last known good roster when the remote call cannot be made or fails, flagged with the time it was
+     * fetched. Without a roster to fall back on the original failure is propagated.
+     */
     public CompletableFuture<GetAllEmployeesResponseDto> getAllEmployeesFallback(Throwable throwable) {
+        return lastKnownGoodRoster
+                .getSnapshot()
+                .map(snapshot -> {
+                    log.warn(
+                            "Serving last known good roster from {} for all employees: {}",
+                            snapshot.getFetchedAt(),
+                            throwable.toString());
+                    return CompletableFuture.completedFuture(GetAllEmployeesResponseDto.builder()
+                            .data(snapshot.getEmployees())
+                            .status(STALE_STATUS)
+                            .staleAsOf(snapshot.getFetchedAt())
+                            .build());
+                })
+                .orElseGet(() -> CompletableFuture.failedFuture(unavailable(throwable)));
+    }
+
+    /**
+     * Serves the employee from the last known good roster when the remote call cannot be made or fails. A genuine
+     * 404 is never masked.
+     */
+    public GetEmployeeResponseDto getEmployeeByIdFallback(UUID id, Throwable throwable) {
+        if (throwable instanceof EmployeeNotFoundException notFound) {
+            throw notFound;
+        }
+        return lastKnownGoodRoster
+                .getSnapshot()
+                .flatMap(snapshot -> snapshot.findById(id).map(employee -> {
+                    log.warn(
+                            "Serving employee {} from last known good roster from {}: {}",
+                            id,
+                            snapshot.getFetchedAt(),
+                            throwable.toString());
+                    return GetEmployeeResponseDto.builder()
+                            .data(employee)
+                            .status(STALE_STATUS)
+                            .staleAsOf(snapshot.getFetchedAt())
+                            .build();
+                }))
+                .orElseThrow(() -> unavailable(throwable));
+    }
+
+    /**
+     * Serves the requested employees found in the last known good roster when the remote call cannot be made or
+     * fails.
+     */
+    public GetAllEmployeesResponseDto getEmployeesByIdsFallback(Collection<UUID> ids, Throwable throwable) {
+        return lastKnownGoodRoster
+                .getSnapshot()
+                .map(snapshot -> {
+                    log.warn(
+                            "Serving {} employees by id from last known good roster from {}: {}",
+                            ids.size(),
+                            snapshot.getFetchedAt(),
+                            throwable.toString());
+                    return GetAllEmployeesResponseDto.builder()
+                            .data(ids.stream()
+                                    .map(snapshot::findById)
+                                    .flatMap(Optional::stream)
+                                    .toList())
+                            .status(STALE_STATUS)
+                            .staleAsOf(snapshot.getFetchedAt())
+                            .build();
+                })
+                .orElseThrow(() -> unavailable(throwable));
+    }
 
-        GetAllEmployeesResponseDto fallbackResponse = new GetAllEmployeesResponseDto();
-        System.err.println("Fallback method invoked: " + throwable.getMessage());
-        return CompletableFuture.completedFuture(fallbackResponse);
+    /**
+     * Deletes cannot be served from a snapshot; the failure is propagated.
+     */
+    public DeleteEmployeeResponseDto deleteEmployeeByNameFallback(String name, UUID id, Throwable throwable) {
+        throw unavailable(throwable);
+    }
+
+    /**
+     * Creations cannot be served from a snapshot; the failure is propagated.
+     */
+    public EmployeeResponseDto createEmployeeFallback(EmployeeRequestDto employeeRequestDto, Throwable throwable) {
+        throw unavailable(throwable);
+    }
+
+    /**
+     * Returns empty while a last known good roster exists, so the caller computes the aggregate from its cached roster
+     * (marked stale when it is) instead of failing on an outage or a 429. Without a roster the failure is propagated.
+     */
+    public OptionalInt getHighestSalaryFallback(Throwable throwable) {
+        requireRosterToFallBackOn("highest salary", throwable);
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Falls back to the caller's roster, as {@link #getHighestSalaryFallback(Throwable)} does.
+     */
+    public Optional<List<EmployeeDto>> getTopEarningEmployeesFallback(int limit, Throwable throwable) {
+        requireRosterToFallBackOn("top earners", throwable);
+        return Optional.empty();
+    }
+
+    /**
+     * Falls back to the caller's roster, as {@link #getHighestSalaryFallback(Throwable)} does.
+     */
+    public Optional<List<EmployeeDto>> searchEmployeesByNameFallback(String name, Throwable throwable) {
+        requireRosterToFallBackOn("name search", throwable);
+        return Optional.empty();
+    }
+
+    private void requireRosterToFallBackOn(String operation, Throwable throwable) {
+        LastKnownGoodRoster.Snapshot snapshot =
+                lastKnownGoodRoster.getSnapshot().orElseThrow(() -> unavailable(throwable));
+        log.warn(
+                "Computing {} from the roster, last known good as of {}: {}",
+                operation,
+                snapshot.getFetchedAt(),
+                throwable.toString());
+    }
+
+    private RuntimeException unavailable(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return unavailable(throwable.getCause());
+        }
+        if (throwable instanceof CallNotPermittedException || throwable instanceof BulkheadFullException) {
+            return new EmployeeServiceRemoteException(
+                    "Employee service is temporarily unavailable. Please try again later.");
+        }
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new EmployeeServiceRemoteException("Error connecting to employee service. Please try again later.");
     }
 }
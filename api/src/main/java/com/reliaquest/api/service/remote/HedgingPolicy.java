@@ -0,0 +1,132 @@
+package com.reliaquest.api.service.remote;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Hedged requests for idempotent upstream reads. When the primary request has not answered within the observed
+ * latency percentile a second identical request is sent; the first successful response wins and the other one is
+ * cancelled, so a hedge that fails fast does not cut short a primary that is still on its way. A primary that fails
+ * before the hedge delay fails the call without a hedge, as retrying is left to the retry policy.
+ * <p>
+ * Hedges are paid for from a token budget: every primary request deposits {@code budget-percent / 100} of a token and
+ * each hedge withdraws one, so hedging adds at most that share of extra upstream load.
+ */
+@Slf4j
+@Component
+public class HedgingPolicy {
+
+    private static final int SAMPLE_WINDOW = 256;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 16;
+    private static final long TOKEN = 1000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    @Getter
+    private final boolean enabled;
+
+    private final long depositPerRequest;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+
+    private final long[] samples = new long[SAMPLE_WINDOW];
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicLong hedgesSent = new AtomicLong();
+    private volatile long hedgeDelayNanos;
+
+    public HedgingPolicy(
+            @Value("${employee.hedging.enabled:false}") boolean enabled,
+            @Value("${employee.hedging.budget-percent:5}") double budgetPercent,
+            @Value("${employee.hedging.percentile:95}") double percentile,
+            @Value("${employee.hedging.initial-delay:50ms}") Duration initialDelay,
+            @Value("${employee.hedging.min-delay:5ms}") Duration minDelay,
+            @Value("${employee.hedging.max-delay:1s}") Duration maxDelay) {
+        this.enabled = enabled;
+        this.depositPerRequest = Math.round(budgetPercent / 100 * TOKEN);
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.hedgeDelayNanos = clamp(initialDelay.toNanos());
+    }
+
+    /**
+     * Wraps a cold request so that it is hedged according to this policy.
+     *
+     * @param request request that issues a new upstream call on every subscription and signals failure statuses as
+     *                errors, since any value it emits can win
+     * @return the first value of the primary or the hedged request, or the error of the primary when neither succeeds
+     */
+    public <T> Mono<T> hedge(Mono<T> request) {
+        if (!enabled) {
+            return request;
+        }
+        tokens.getAndUpdate(current -> Math.min(MAX_TOKENS, current + depositPerRequest));
+
+        // Holds the primary's error, or completes empty once the primary succeeded.
+        Sinks.One<Throwable> primaryError = Sinks.one();
+        Mono<T> primary = Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return request.doFinally(signal -> recordLatency(System.nanoTime() - start));
+                })
+                .doOnError(primaryError::tryEmitValue)
+                .doOnSuccess(value -> primaryError.tryEmitEmpty());
+        Mono<T> hedged = Mono.delay(Duration.ofNanos(hedgeDelayNanos))
+                .takeUntilOther(primaryError.asMono())
+                .flatMap(ignored -> tryAcquireHedge() ? request : Mono.<T>empty());
+        // Without any value both requests have finished; the primary's outcome is reported, hedge errors are not.
+        return Mono.firstWithValue(primary, hedged).onErrorResume(NoSuchElementException.class, noValue -> primaryError
+                .asMono()
+                .flatMap(Mono::<T>error));
+    }
+
+    public Duration getHedgeDelay() {
+        return Duration.ofNanos(hedgeDelayNanos);
+    }
+
+    public long getHedgesSent() {
+        return hedgesSent.get();
+    }
+
+    private boolean tryAcquireHedge() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        log.debug(
+                "Sending hedged request after {} ms",
+                Duration.ofNanos(hedgeDelayNanos).toMillis());
+        hedgesSent.incrementAndGet();
+        return true;
+    }
+
+    /*
+     * Cancelled primaries are recorded with their elapsed time, a lower bound of their real latency.
+     */
+    private void recordLatency(long nanos) {
+        long count = sampleCount.getAndIncrement();
+        samples[(int) (count % SAMPLE_WINDOW)] = nanos;
+        if (count + 1 >= MIN_SAMPLES && (count + 1) % RECOMPUTE_EVERY == 0) {
+            long[] window = Arrays.copyOf(samples, (int) Math.min(count + 1, SAMPLE_WINDOW));
+            Arrays.sort(window);
+            int rank = (int) Math.ceil(percentile / 100 * window.length);
+            hedgeDelayNanos = clamp(window[Math.max(rank, 1) - 1]);
+        }
+    }
+
+    private long clamp(long nanos) {
+        return Math.max(minDelayNanos, Math.min(maxDelayNanos, nanos));
+    }
+}
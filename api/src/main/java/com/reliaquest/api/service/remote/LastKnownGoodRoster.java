@@ -0,0 +1,64 @@
+package com.reliaquest.api.service.remote;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Last roster successfully fetched from the remote employee service, indexed by id. Served in degraded mode when the
+ * circuit breaker is open or the bulkhead is full.
+ */
+@Slf4j
+@Component
+public class LastKnownGoodRoster {
+
+    private volatile Snapshot snapshot;
+
+    public synchronized void record(List<EmployeeDto> employees) {
+        if (employees == null) {
+            return;
+        }
+        snapshot = new Snapshot(employees, Instant.now());
+    }
+
+    /**
+     * Starts from a roster fetched earlier, e.g. restored from disk, unless one has been recorded since.
+     */
+    public synchronized void seed(List<EmployeeDto> employees, Instant fetchedAt) {
+        if (snapshot == null && employees != null) {
+            snapshot = new Snapshot(employees, fetchedAt);
+        }
+    }
+
+    public Optional<Snapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    @Getter
+    public static class Snapshot {
+
+        private final List<EmployeeDto> employees;
+
+        private final Map<UUID, EmployeeDto> employeesById;
+
+        private final Instant fetchedAt;
+
+        Snapshot(List<EmployeeDto> employees, Instant fetchedAt) {
+            this.employees = List.copyOf(employees);
+            this.employeesById = new HashMap<>(employees.size() * 2);
+            employees.forEach(employee -> employeesById.put(employee.getId(), employee));
+            this.fetchedAt = fetchedAt;
+        }
+
+        public Optional<EmployeeDto> findById(UUID id) {
+            return Optional.ofNullable(employeesById.get(id));
+        }
+    }
+}
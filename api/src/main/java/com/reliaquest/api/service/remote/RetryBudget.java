@@ -0,0 +1,139 @@
+package com.reliaquest.api.service.remote;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node-wide budget for upstream retries, shared by every resilience4j retry instance. Every successful upstream call
+ * deposits {@code budget-percent / 100} of a token and every retry withdraws one, so retries add at most that share of
+ * extra load on top of recent successful traffic; {@code min-retries-per-second} keeps a trickle of retries possible
+ * when there is little traffic. When the budget is spent the original failure is returned without retrying.
+ * <p>
+ * Retry delays use full-jitter exponential backoff, never undercut a {@code Retry-After} sent by the upstream and never
+ * exceed {@code max-delay}. A failure whose {@code Retry-After} is longer than that is not retried here: it is returned
+ * at once so the caller, not a request thread, does the waiting.
+ */
+@Slf4j
+@Component
+public class RetryBudget {
+
+    private static final long TOKEN = 1000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final long depositPerSuccess;
+    private final long refillPerSecond;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+    private final AtomicLong lastRefillNanos = new AtomicLong(System.nanoTime());
+    private final AtomicLong retriesDenied = new AtomicLong();
+
+    public RetryBudget(
+            @Value("${employee.retry.budget-percent:10}") double budgetPercent,
+            @Value("${employee.retry.min-retries-per-second:1}") double minRetriesPerSecond,
+            @Value("${employee.retry.base-delay:200ms}") Duration baseDelay,
+            @Value("${employee.retry.max-delay:5s}") Duration maxDelay) {
+        this.depositPerSuccess = Math.round(budgetPercent / 100 * TOKEN);
+        this.refillPerSecond = Math.round(minRetriesPerSecond * TOKEN);
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+    }
+
+    public void recordSuccess() {
+        deposit(depositPerSuccess);
+    }
+
+    /**
+     * Withdraws one retry from the budget.
+     *
+     * @return whether the retry may be made
+     */
+    public boolean tryAcquire() {
+        refill();
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                long denied = retriesDenied.incrementAndGet();
+                log.debug("Retry budget exhausted, {} retries denied so far", denied);
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * Whether the budget holds a retry, without withdrawing it. Call {@link #withdraw()} once the retry is actually
+     * scheduled.
+     */
+    public boolean hasRetry() {
+        refill();
+        return tokens.get() >= TOKEN;
+    }
+
+    /**
+     * Withdraws the retry {@link #hasRetry()} allowed. Concurrent retries that saw the same last token all withdraw
+     * it, so the budget can be overdrawn by a few tokens; later successes pay that back before the next retry.
+     */
+    public void withdraw() {
+        tokens.addAndGet(-TOKEN);
+    }
+
+    /**
+     * Whether a retry can honour the upstream's {@code Retry-After} without waiting longer than {@code max-delay}.
+     *
+     * @param retryAfter delay requested by the upstream, or {@code null}
+     */
+    public boolean canWait(Duration retryAfter) {
+        return retryAfter == null || retryAfter.toMillis() <= maxDelayMillis;
+    }
+
+    /**
+     * Delay before a retry: uniformly random up to the exponential backoff for the attempt, or the upstream's
+     * {@code Retry-After} plus up to one base delay of jitter when that is longer. Never more than {@code max-delay};
+     * check {@link #canWait(Duration)} before retrying.
+     *
+     * @param attempt number of the attempt that failed, starting at 1
+     * @param retryAfter delay requested by the upstream, or {@code null}
+     * @return delay in milliseconds
+     */
+    public long backoffMillis(int attempt, Duration retryAfter) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 30));
+        long delay = random.nextLong(ceiling + 1);
+        if (retryAfter != null && retryAfter.toMillis() > delay) {
+            long jitter = Math.max(0, Math.min(baseDelayMillis, maxDelayMillis - retryAfter.toMillis()));
+            delay = Math.min(maxDelayMillis, retryAfter.toMillis() + random.nextLong(jitter + 1));
+        }
+        return delay;
+    }
+
+    /**
+     * Number of whole retries currently in the budget, without the refill since the last withdrawal.
+     */
+    public long getAvailableRetries() {
+        return Math.max(0, tokens.get()) / TOKEN;
+    }
+
+    public long getRetriesDenied() {
+        return retriesDenied.get();
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long last = lastRefillNanos.get();
+        long earned = (now - last) * refillPerSecond / 1_000_000_000L;
+        if (earned > 0 && lastRefillNanos.compareAndSet(last, now)) {
+            deposit(earned);
+        }
+    }
+
+    private void deposit(long amount) {
+        tokens.getAndUpdate(current -> Math.min(MAX_TOKENS, current + amount));
+    }
+}
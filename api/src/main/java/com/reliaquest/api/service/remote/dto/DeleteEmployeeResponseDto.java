@@ -1,10 +1,14 @@
 package com.reliaquest.api.service.remote.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class DeleteEmployeeResponseDto {
 
     private Boolean data;
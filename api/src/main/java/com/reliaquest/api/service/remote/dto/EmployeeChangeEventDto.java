@@ -0,0 +1,22 @@
+package com.reliaquest.api.service.remote.dto;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.util.UUID;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Roster mutation received from the remote change feed. {@code employee} is only set for creations.
+ */
+@Data
+@NoArgsConstructor
+public class EmployeeChangeEventDto {
+
+    private long sequence;
+
+    private String type;
+
+    private UUID id;
+
+    private EmployeeDto employee;
+}
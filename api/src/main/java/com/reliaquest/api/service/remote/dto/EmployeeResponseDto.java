@@ -1,6 +1,8 @@
 package com.reliaquest.api.service.remote.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.reliaquest.api.model.EmployeeDto;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,4 +17,10 @@ public class EmployeeResponseDto {
     private EmployeeDto data;
 
     private String status;
+
+    /**
+     * Set when the data was served from the last known good roster instead of the remote employee service.
+     */
+    @JsonIgnore
+    private Instant staleAsOf;
 }
@@ -1,6 +1,12 @@
 package com.reliaquest.api.service.remote.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.json.GetAllEmployeesResponseDtoDeserializer;
+import com.reliaquest.api.model.json.GetAllEmployeesResponseDtoSerializer;
+import java.time.Instant;
 import java.util.List;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,9 +15,17 @@ import lombok.experimental.SuperBuilder;
 @Data
 @SuperBuilder
 @NoArgsConstructor
+@JsonSerialize(using = GetAllEmployeesResponseDtoSerializer.class)
+@JsonDeserialize(using = GetAllEmployeesResponseDtoDeserializer.class)
 public class GetAllEmployeesResponseDto {
 
     private List<EmployeeDto> data;
 
     private String status;
+
+    /**
+     * Set when the data was served from the last known good roster instead of the remote employee service.
+     */
+    @JsonIgnore
+    private Instant staleAsOf;
 }
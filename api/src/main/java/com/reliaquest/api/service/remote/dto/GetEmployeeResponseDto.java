@@ -1,6 +1,8 @@
 package com.reliaquest.api.service.remote.dto;
 
+import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @SuperBuilder
+@NoArgsConstructor
 public class GetEmployeeResponseDto extends EmployeeResponseDto {}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.service.remote.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GetEmployeesByIdsRequestDto {
+
+    private List<UUID> ids;
+}
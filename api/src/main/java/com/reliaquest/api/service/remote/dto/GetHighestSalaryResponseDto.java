@@ -0,0 +1,20 @@
+package com.reliaquest.api.service.remote.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Highest salary computed by the employee service; {@code data} is absent when it holds no employees.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetHighestSalaryResponseDto {
+
+    private Integer data;
+
+    private String status;
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.service.remote.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consistent hash ring mapping employee ids to shards. Each shard owns {@value #VIRTUAL_NODES} points on the ring and
+ * an id belongs to the shard owning the first point at or after the id's hash.
+ * <p>
+ * The mock employee server has its own copy of this ring to generate ids owned by its shard. The two modules share no
+ * code, so ConsistentHashRingTest in each pins the same id to shard assignments and fails when the copies diverge.
+ */
+public class ConsistentHashRing {
+
+    private static final int VIRTUAL_NODES = 160;
+
+    private final long[] points;
+
+    private final int[] owners;
+
+    public ConsistentHashRing(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive. Provided: " + shardCount);
+        }
+        List<long[]> ring = new ArrayList<>(shardCount * VIRTUAL_NODES);
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < VIRTUAL_NODES; node++) {
+                ring.add(new long[] {mix((((long) shard << 32) | node) + 0x9E3779B97F4A7C15L), shard});
+            }
+        }
+        ring.sort(Comparator.comparingLong(point -> point[0]));
+        this.points = new long[ring.size()];
+        this.owners = new int[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            points[i] = ring.get(i)[0];
+            owners[i] = (int) ring.get(i)[1];
+        }
+    }
+
+    public int shardFor(UUID id) {
+        long hash = hash(id);
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (points[mid] < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return owners[low == points.length ? 0 : low];
+    }
+
+    static long hash(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
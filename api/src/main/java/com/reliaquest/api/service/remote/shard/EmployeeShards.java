@@ -0,0 +1,47 @@
+package com.reliaquest.api.service.remote.shard;
+
+import com.reliaquest.api.config.AppConfig;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upstream employee service shards. Point operations are routed to the shard owning the employee id on a
+ * {@link ConsistentHashRing}; creates are spread round robin since the owning shard assigns the id.
+ */
+@Component
+public class EmployeeShards {
+
+    @Getter
+    private final List<String> baseUrls;
+
+    private final ConsistentHashRing ring;
+
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    public EmployeeShards(AppConfig appConfig) {
+        List<String> configured = appConfig.getEmployeeServiceBaseUrls();
+        this.baseUrls = configured == null || configured.isEmpty()
+                ? List.of(appConfig.getEmployeeServiceBaseUrl())
+                : List.copyOf(configured);
+        this.ring = new ConsistentHashRing(baseUrls.size());
+    }
+
+    public boolean isSharded() {
+        return baseUrls.size() > 1;
+    }
+
+    public int size() {
+        return baseUrls.size();
+    }
+
+    public String baseUrlFor(UUID id) {
+        return baseUrls.get(ring.shardFor(id));
+    }
+
+    public String nextBaseUrl() {
+        return baseUrls.get(Math.floorMod(nextShard.getAndIncrement(), baseUrls.size()));
+    }
+}
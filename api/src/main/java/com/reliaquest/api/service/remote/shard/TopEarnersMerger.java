@@ -0,0 +1,73 @@
+package com.reliaquest.api.service.remote.shard;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Top-N by salary across shards: each shard's employees are reduced to their own top N, then the per-shard lists are
+ * combined with a k-way merge.
+ */
+public final class TopEarnersMerger {
+
+    public static final Comparator<EmployeeDto> BY_SALARY_DESC =
+            Comparator.comparing(EmployeeDto::getEmployeeSalary, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private TopEarnersMerger() {}
+
+    /**
+     * Highest earners of a single shard, ordered by descending salary.
+     */
+    public static List<EmployeeDto> topOf(List<EmployeeDto> employees, int limit) {
+        PriorityQueue<EmployeeDto> heap = new PriorityQueue<>(limit + 1, BY_SALARY_DESC.reversed());
+        for (EmployeeDto employee : employees) {
+            heap.offer(employee);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<EmployeeDto> top = new ArrayList<>(heap);
+        top.sort(BY_SALARY_DESC);
+        return top;
+    }
+
+    /**
+     * K-way merge of per-shard lists that are each ordered by descending salary.
+     */
+    public static List<EmployeeDto> merge(List<List<EmployeeDto>> shardTops, int limit) {
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(
+                Math.max(1, shardTops.size()), (a, b) -> BY_SALARY_DESC.compare(a.head(), b.head()));
+        shardTops.stream().filter(top -> !top.isEmpty()).forEach(top -> cursors.offer(new Cursor(top)));
+
+        List<EmployeeDto> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            merged.add(cursor.head());
+            if (cursor.advance()) {
+                cursors.offer(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor {
+
+        private final List<EmployeeDto> employees;
+
+        private int position;
+
+        Cursor(List<EmployeeDto> employees) {
+            this.employees = employees;
+        }
+
+        EmployeeDto head() {
+            return employees.get(position);
+        }
+
+        boolean advance() {
+            return ++position < employees.size();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable, versioned snapshot of the employee roster. Structures derived from the roster (indexes, aggregates) are
+ * memoized on the snapshot, so each one is built at most once per roster version.
+ */
+@Getter
+public class EmployeeRoster {
+
+    private final long version;
+
+    private final List<EmployeeDto> employees;
+
+    private final Instant fetchedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, Object> derived = new ConcurrentHashMap<>();
+
+    public EmployeeRoster(long version, List<EmployeeDto> employees, Instant fetchedAt) {
+        this.version = version;
+        this.employees = Collections.unmodifiableList(new ArrayList<>(employees));
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * Returns the structure registered under {@code key}, building it from this roster on first use.
+     *
+     * @param key identifies the derived structure, usually its class
+     * @param factory builds the structure from this roster
+     * @return the memoized structure
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T derive(Object key, Function<EmployeeRoster, T> factory) {
+        return (T) derived.computeIfAbsent(key, ignored -> factory.apply(this));
+    }
+
+    public int size() {
+        return employees.size();
+    }
+}
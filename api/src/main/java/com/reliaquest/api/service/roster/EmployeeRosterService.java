@@ -0,0 +1,248 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.exception.EmployeeServiceRemoteException;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.EmployeeRemoteService;
+import com.reliaquest.api.service.remote.LastKnownGoodRoster;
+import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Holds the locally cached employee roster. The roster is fetched from the remote employee service when missing or
+ * older than the configured TTL, and patched in place (as a new version) for mutations made through this api. While
+ * the remote change feed is connected the roster is kept current by its events and does not expire. Every version is
+ * also saved through {@link RosterSnapshotStore} for a warm start after a restart.
+ * <p>
+ * A roster restored from the snapshot is refreshed in the background on the list bulkhead of
+ * {@link EmployeeRemoteService}, at most once per {@link AppConfig#getRosterRevalidateInterval()}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeRosterService {
+
+    private final EmployeeRemoteService employeeRemoteService;
+
+    private final AppConfig appConfig;
+
+    private final RosterSnapshotStore rosterSnapshotStore;
+
+    private final LastKnownGoodRoster lastKnownGoodRoster;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private final Object lock = new Object();
+
+    private volatile EmployeeRoster roster;
+
+    private volatile Instant changeFeedLiveSince;
+
+    /*
+     * Set while the roster is the one loaded from the local snapshot at startup and no refresh has succeeded yet.
+     */
+    private volatile boolean servingSnapshot;
+
+    private final AtomicBoolean revalidating = new AtomicBoolean();
+
+    private final AtomicLong lastRevalidation = new AtomicLong();
+
+    /**
+     * Starts from the roster snapshot saved by a previous run, if any, so that the first requests after a restart are
+     * answered locally (flagged stale) instead of all waiting on the employee service. The snapshot also seeds the
+     * last known good roster, so remote fallbacks have something to serve before the first successful fetch.
+     */
+    @PostConstruct
+    public void warmStart() {
+        rosterSnapshotStore.load().ifPresent(snapshot -> {
+            synchronized (lock) {
+                roster = new EmployeeRoster(versions.incrementAndGet(), snapshot.employees(), snapshot.fetchedAt());
+                servingSnapshot = true;
+            }
+            lastKnownGoodRoster.seed(snapshot.employees(), snapshot.fetchedAt());
+            log.info(
+                    "Warm started with roster snapshot from {} ({} employees)",
+                    snapshot.fetchedAt(),
+                    snapshot.employees().size());
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void revalidateWarmStart() {
+        if (servingSnapshot) {
+            refreshInBackground();
+        }
+    }
+
+    /**
+     * Returns the cached roster, refreshing it first when it is missing or expired. A roster restored from the local
+     * snapshot is returned as is while it is refreshed in the background.
+     *
+     * @return current {@link EmployeeRoster}
+     */
+    public EmployeeRoster getRoster() {
+        EmployeeRoster current = roster;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+        if (current != null && servingSnapshot) {
+            refreshInBackground();
+            return current;
+        }
+        synchronized (lock) {
+            current = roster;
+            if (current != null && !isExpired(current)) {
+                return current;
+            }
+            return refresh();
+        }
+    }
+
+    /**
+     * Fetches the roster from the remote employee service and publishes it as a new version. When the remote service
+     * has nothing to offer the previous roster is kept.
+     *
+     * @return refreshed {@link EmployeeRoster}
+     */
+    public EmployeeRoster refresh() {
+        synchronized (lock) {
+            return publish(employeeRemoteService.getAllEmployees().join());
+        }
+    }
+
+    /**
+     * Whether {@link #getRoster()} would answer without calling the remote employee service.
+     */
+    public boolean isFresh() {
+        EmployeeRoster current = roster;
+        return current != null && (servingSnapshot || !isExpired(current));
+    }
+
+    /**
+     * A roster is stale when it is older than the TTL, which only happens when it could not be refreshed.
+     */
+    public boolean isStale(EmployeeRoster current) {
+        return isExpired(current);
+    }
+
+    /**
+     * Marks whether every upstream change feed is connected. Only rosters fetched while the feeds are live skip
+     * expiry, since earlier ones may have missed events.
+     */
+    public void setChangeFeedLive(boolean live) {
+        if (!live) {
+            changeFeedLiveSince = null;
+        } else if (changeFeedLiveSince == null) {
+            changeFeedLiveSince = Instant.now();
+        }
+    }
+
+    public void invalidate() {
+        roster = null;
+    }
+
+    public void applyCreated(EmployeeDto employee) {
+        if (employee == null) {
+            return;
+        }
+        patch(employees -> {
+            employees.removeIf(existing -> Objects.equals(existing.getId(), employee.getId()));
+            employees.add(employee);
+            return employees;
+        });
+    }
+
+    public void applyDeleted(UUID id) {
+        patch(employees -> {
+            employees.removeIf(existing -> Objects.equals(existing.getId(), id));
+            return employees;
+        });
+    }
+
+    private void patch(UnaryOperator<List<EmployeeDto>> mutation) {
+        synchronized (lock) {
+            EmployeeRoster current = roster;
+            if (current == null) {
+                return;
+            }
+            roster = new EmployeeRoster(
+                    versions.incrementAndGet(),
+                    mutation.apply(new ArrayList<>(current.getEmployees())),
+                    current.getFetchedAt());
+            rosterSnapshotStore.save(roster);
+        }
+    }
+
+    private EmployeeRoster publish(GetAllEmployeesResponseDto response) {
+        synchronized (lock) {
+            if (response == null || response.getData() == null) {
+                if (roster != null) {
+                    log.warn("Employee roster refresh returned no data, keeping version {}", roster.getVersion());
+                    return roster;
+                }
+                throw new EmployeeServiceRemoteException("Employee roster is currently unavailable");
+            }
+            if (response.getStaleAsOf() != null && roster != null) {
+                log.warn("Employee service unavailable, keeping roster version {}", roster.getVersion());
+                return roster;
+            }
+            Instant fetchedAt = response.getStaleAsOf() != null ? response.getStaleAsOf() : Instant.now();
+            roster = new EmployeeRoster(versions.incrementAndGet(), response.getData(), fetchedAt);
+            servingSnapshot = false;
+            rosterSnapshotStore.save(roster);
+            log.debug("Employee roster refreshed to version {} ({} employees)", roster.getVersion(), roster.size());
+            return roster;
+        }
+    }
+
+    /**
+     * Starts a refresh on the list bulkhead unless one is running or the last one started less than the revalidate
+     * interval ago. The request that triggers it does not wait for the result.
+     */
+    private void refreshInBackground() {
+        long now = System.nanoTime();
+        long last = lastRevalidation.get();
+        Duration interval = appConfig.getRosterRevalidateInterval();
+        if (last != 0 && interval != null && now - last < interval.toNanos()) {
+            return;
+        }
+        if (!revalidating.compareAndSet(false, true)) {
+            return;
+        }
+        lastRevalidation.set(now);
+        try {
+            employeeRemoteService.getAllEmployees().thenAccept(this::publish).whenComplete((ignored, ex) -> {
+                revalidating.set(false);
+                if (ex != null) {
+                    log.warn("Background roster refresh failed, still serving snapshot: {}", ex.toString());
+                }
+            });
+        } catch (RuntimeException ex) {
+            revalidating.set(false);
+            log.warn("Background roster refresh failed, still serving snapshot: {}", ex.toString());
+        }
+    }
+
+    private boolean isExpired(EmployeeRoster current) {
+        Instant liveSince = changeFeedLiveSince;
+        if (liveSince != null && !current.getFetchedAt().isBefore(liveSince)) {
+            return false;
+        }
+        Duration ttl = appConfig.getRosterTtl();
+        return ttl != null && current.getFetchedAt().plus(ttl).isBefore(Instant.now());
+    }
+}
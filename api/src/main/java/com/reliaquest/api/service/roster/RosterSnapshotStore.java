@@ -0,0 +1,227 @@
+package com.reliaquest.api.service.roster;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local copy of the latest roster, so a restarted api can answer from it before the employee service has been reached.
+ * <p>
+ * The file is a compact binary layout read through a memory mapping: a header (magic, format version, fetch time,
+ * employee count, CRC32 of the body) followed by one fixed-order record per employee (id, a presence byte for the
+ * nullable salary and age, then length-prefixed UTF-8 strings). Snapshots are written by a background thread to a
+ * temporary file that replaces the previous one atomically; when rosters change faster than they are written only the
+ * latest is kept.
+ */
+@Slf4j
+@Component
+public class RosterSnapshotStore implements DisposableBean {
+
+    private static final int MAGIC = 0x45525331; // "ERS1"
+    private static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final byte HAS_SALARY = 1;
+    private static final byte HAS_AGE = 2;
+
+    @Getter
+    private final boolean enabled;
+
+    private final Path file;
+
+    private final AtomicReference<EmployeeRoster> pending = new AtomicReference<>();
+
+    private final ExecutorService writer;
+
+    public RosterSnapshotStore(
+            @Value("${employee.roster.snapshot.enabled:false}") boolean enabled,
+            @Value("${employee.roster.snapshot.file:data/roster.snapshot}") Path file) {
+        this.enabled = enabled;
+        this.file = file;
+        this.writer = enabled
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "roster-snapshot-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    /**
+     * Reads the last saved snapshot. Missing, truncated or corrupt files yield nothing.
+     */
+    public Optional<Snapshot> load() {
+        if (!enabled || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable roster snapshot {}: {}", file, ex.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Schedules {@code roster} to be written; returns immediately.
+     */
+    public void save(EmployeeRoster roster) {
+        if (!enabled || pending.getAndSet(roster) != null) {
+            return;
+        }
+        writer.execute(() -> {
+            EmployeeRoster latest = pending.getAndSet(null);
+            if (latest != null) {
+                try {
+                    write(latest);
+                } catch (IOException | RuntimeException ex) {
+                    log.warn("Could not write roster snapshot {}: {}", file, ex.toString());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    void write(EmployeeRoster roster) throws IOException {
+        ByteBuffer buffer = encode(roster.getEmployees(), roster.getFetchedAt());
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Wrote roster snapshot version {} ({} employees)", roster.getVersion(), roster.size());
+    }
+
+    static ByteBuffer encode(List<EmployeeDto> employees, Instant fetchedAt) {
+        List<byte[][]> strings = new ArrayList<>(employees.size());
+        int bodyBytes = 0;
+        for (EmployeeDto employee : employees) {
+            byte[][] encoded = {
+                utf8(employee.getEmployeeName()), utf8(employee.getEmployeeTitle()), utf8(employee.getEmail())
+            };
+            strings.add(encoded);
+            bodyBytes += 2 * Long.BYTES + 1 + 2 * Integer.BYTES;
+            for (byte[] string : encoded) {
+                bodyBytes += Integer.BYTES + (string == null ? 0 : string.length);
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyBytes);
+        buffer.position(HEADER_BYTES);
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeDto employee = employees.get(i);
+            UUID id = employee.getId();
+            buffer.putLong(id == null ? 0 : id.getMostSignificantBits());
+            buffer.putLong(id == null ? 0 : id.getLeastSignificantBits());
+            Integer salary = employee.getEmployeeSalary();
+            Integer age = employee.getEmployeeAge();
+            buffer.put((byte) ((salary != null ? HAS_SALARY : 0) | (age != null ? HAS_AGE : 0)));
+            buffer.putInt(salary == null ? 0 : salary);
+            buffer.putInt(age == null ? 0 : age);
+            for (byte[] string : strings.get(i)) {
+                buffer.putInt(string == null ? -1 : string.length);
+                if (string != null) {
+                    buffer.put(string);
+                }
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, bodyBytes);
+        buffer.position(0);
+        buffer.putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putLong(fetchedAt.toEpochMilli())
+                .putInt(employees.size())
+                .putLong(crc.getValue());
+        return buffer.rewind();
+    }
+
+    static Optional<Snapshot> decode(ByteBuffer buffer) {
+        try {
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            Instant fetchedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            long checksum = buffer.getLong();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != checksum || count < 0) {
+                return Optional.empty();
+            }
+            List<EmployeeDto> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long msb = buffer.getLong();
+                long lsb = buffer.getLong();
+                byte present = buffer.get();
+                int salary = buffer.getInt();
+                int age = buffer.getInt();
+                employees.add(EmployeeDto.builder()
+                        .id(msb == 0 && lsb == 0 ? null : new UUID(msb, lsb))
+                        .employeeSalary((present & HAS_SALARY) != 0 ? salary : null)
+                        .employeeAge((present & HAS_AGE) != 0 ? age : null)
+                        .employeeName(readString(buffer))
+                        .employeeTitle(readString(buffer))
+                        .email(readString(buffer))
+                        .build());
+            }
+            return Optional.of(new Snapshot(employees, fetchedAt));
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Roster read back from disk, with the time it was originally fetched from the employee service.
+     */
+    public record Snapshot(List<EmployeeDto> employees, Instant fetchedAt) {}
+}
@@ -1,28 +1,36 @@
 package com.reliaquest.api.validator;
 
+import com.reliaquest.api.exception.InvalidRequestException;
 import com.reliaquest.api.model.EmployeeRequestDto;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Assert;
 
 /**
- * Employee validator
+ * Employee validator. Rejections are expected client errors: they are logged at WARN, rate limited, and thrown as
+ * {@link InvalidRequestException} without stack traces.
  */
 @Component
 @Slf4j
 public class EmployeeValidator {
 
+    private final RateLimitedLog validationLog = new RateLimitedLog(log, Duration.ofSeconds(1));
+
     public void validateEmployeeId(String employeeId) {
-        Assert.notNull(employeeId, "Employee id cannot be null. Please provide valid employee id.");
+        if (employeeId == null) {
+            throw new InvalidRequestException("Employee id cannot be null. Please provide valid employee id.");
+        }
 
         if (employeeId.isEmpty()) {
-            log.error("Invalid Employee id: {}. Employee id cannot be empty", employeeId);
-            throw new IllegalArgumentException("Employee id is required and cannot be empty");
+            validationLog.warn("Invalid Employee id: {}. Employee id cannot be empty", employeeId);
+            throw new InvalidRequestException("Employee id is required and cannot be empty");
         }
     }
 
     public void validateEmployeeData(EmployeeRequestDto employeeRequestDto) {
-        Assert.notNull(employeeRequestDto, "Request body cannot be null. Please provide valid employee data.");
+        if (employeeRequestDto == null) {
+            throw new InvalidRequestException("Request body cannot be null. Please provide valid employee data.");
+        }
 
         String name = employeeRequestDto.getName();
         String title = employeeRequestDto.getTitle();
@@ -30,23 +38,23 @@ public class EmployeeValidator {
         Integer age = employeeRequestDto.getAge();
 
         if (age == null || age < 16 || age > 75) {
-            log.error("Invalid Employee age: {}. Age must be between 16 and 75", age);
-            throw new IllegalArgumentException("Employee age must be between 16 and 75 years. Provided age: " + age);
+            validationLog.warn("Invalid Employee age: {}. Age must be between 16 and 75", age);
+            throw new InvalidRequestException("Employee age must be between 16 and 75 years. Provided age: " + age);
         }
 
         if (name == null || name.isEmpty()) {
-            log.error("Invalid Employee name: {}. Name cannot be empty", name);
-            throw new IllegalArgumentException("Employee name is required and cannot be empty");
+            validationLog.warn("Invalid Employee name: {}. Name cannot be empty", name);
+            throw new InvalidRequestException("Employee name is required and cannot be empty");
         }
 
         if (salary == null || salary <= 0) {
-            log.error("Invalid Employee salary: {}. Salary must be positive", salary);
-            throw new IllegalArgumentException("Employee salary must be greater than zero. Provided salary: " + salary);
+            validationLog.warn("Invalid Employee salary: {}. Salary must be positive", salary);
+            throw new InvalidRequestException("Employee salary must be greater than zero. Provided salary: " + salary);
         }
 
         if (title == null || title.isEmpty()) {
-            log.error("Invalid Employee title: {}. Title cannot be empty", title);
-            throw new IllegalArgumentException("Employee title is required and cannot be empty");
+            validationLog.warn("Invalid Employee title: {}. Title cannot be empty", title);
+            throw new InvalidRequestException("Employee title is required and cannot be empty");
         }
     }
 }
@@ -0,0 +1,42 @@
+package com.reliaquest.api.validator;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+
+/**
+ * Logs at WARN at most once per interval; messages dropped in between are counted and reported with the next one.
+ * Keeps floods of bad requests from turning into floods of log lines.
+ */
+public class RateLimitedLog {
+
+    private final Logger logger;
+
+    private final long intervalNanos;
+
+    private final AtomicLong nextAllowedNanos = new AtomicLong(System.nanoTime());
+
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLog(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void warn(String format, Object... arguments) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long allowed = nextAllowedNanos.get();
+        if (now - allowed < 0 || !nextAllowedNanos.compareAndSet(allowed, now + intervalNanos)) {
+            suppressed.incrementAndGet();
+            return;
+        }
+        long dropped = suppressed.getAndSet(0);
+        logger.warn(format, arguments);
+        if (dropped > 0) {
+            logger.warn("{} similar validation messages suppressed", dropped);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style adaptive concurrency limit. A long-term average of request latency serves as the no-load baseline
+ * and a short-term average as the current latency; while the current latency stays within {@code tolerance} times the
+ * baseline the limit grows by about its square root per sample, and as queueing pushes latency up the limit shrinks in
+ * proportion, down to half per sample.
+ * <p>
+ * The limit only changes while at least half of it is in use, so an idle period does not inflate it.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private double shortRtt;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Concurrency limit bounds must satisfy 1 <= min <= max. Provided: " + minLimit + ", " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Takes a slot when fewer than {@code share} of the limit are in use.
+     *
+     * @param share fraction of the limit this request may use, between 0 and 1
+     * @return requests in flight including this one, or 0 when the request must be rejected
+     */
+    int tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Feeds the latency of a completed request into the limit.
+     *
+     * @param rttNanos latency of the request
+     * @param inFlightAtStart value returned by {@link #tryAcquire(double)} for the request
+     */
+    synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+        } else {
+            longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+            shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+        }
+        // After a long slowdown the baseline lags behind a recovered upstream; let it catch up faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.APIError;
+import com.reliaquest.api.model.json.UuidParser;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sheds load in front of the employee endpoints with an {@link AdaptiveConcurrencyLimit}. Requests over the limit are
+ * rejected right away with 503 and {@code Retry-After} instead of queueing behind the upstream bulkhead.
+ * <p>
+ * Requests that need the employee service (writes, lookups by id that miss the cache, the aggregates and name search
+ * that are pushed down to it, and roster reads while the roster has to be refetched) may only use
+ * {@code upstream-share} of the limit, leaving the rest for reads served from the local roster and cache. Only
+ * upstream-bound requests feed the limit, since their latency is the one that rises when the upstream saturates.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+
+    private static final Set<String> PUSH_DOWN_PATHS = Set.of("/highestSalary", "/topTenHighestEarningEmployeeNames");
+
+    private static final String SEARCH_PATH = "/search/";
+
+    private final EmployeeRosterService employeeRosterService;
+
+    private final EmployeeCache employeeCache;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final double upstreamShare;
+
+    private final String retryAfterSeconds;
+
+    private final AdaptiveConcurrencyLimit limit;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitFilter(
+            EmployeeRosterService employeeRosterService,
+            EmployeeCache employeeCache,
+            ObjectMapper objectMapper,
+            @Value("${employee.concurrency-limit.enabled:false}") boolean enabled,
+            @Value("${employee.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${employee.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${employee.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${employee.concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${employee.concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${employee.concurrency-limit.upstream-share:0.8}") double upstreamShare,
+            @Value("${employee.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        this.employeeRosterService = employeeRosterService;
+        this.employeeCache = employeeCache;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.upstreamShare = upstreamShare;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(EMPLOYEE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean upstreamBound = isUpstreamBound(request);
+        int inFlight = limit.tryAcquire(upstreamBound ? upstreamShare : 1.0);
+        if (inFlight == 0) {
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limit.release();
+            if (upstreamBound) {
+                limit.onSample(System.nanoTime() - start, inFlight);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    boolean isUpstreamBound(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(EMPLOYEE_PATH.length());
+        if (path.startsWith("/async") || path.startsWith("/cache/")) {
+            return false;
+        }
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        if (PUSH_DOWN_PATHS.contains(path) || path.startsWith(SEARCH_PATH)) {
+            return true;
+        }
+        UUID id = path.isEmpty() ? null : UuidParser.parseOrNull(path.substring(1));
+        if (id != null) {
+            return !employeeCache.contains(id);
+        }
+        return !employeeRosterService.isFresh();
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        long count = rejected.incrementAndGet();
+        log.debug("Shed request over concurrency limit {} ({} shed so far)", limit.getLimit(), count);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new APIError("Server is busy, please retry later"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.web;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds staleness headers to responses that were served from the last known good roster.
+ */
+@ControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_SINCE_HEADER = "X-Data-Stale-Since";
+
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(StaleResponseMarker.ATTRIBUTE)
+                        instanceof Instant asOf) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.WARNING, STALE_WARNING);
+            headers.set(STALE_SINCE_HEADER, asOf.toString());
+            headers.set(
+                    HttpHeaders.AGE,
+                    Long.toString(
+                            Math.max(0, Duration.between(asOf, Instant.now()).toSeconds())));
+        }
+        return body;
+    }
+}
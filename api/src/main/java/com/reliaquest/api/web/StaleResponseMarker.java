@@ -0,0 +1,31 @@
+package com.reliaquest.api.web;
+
+import java.time.Instant;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Flags the current web request as answered from stale data. {@link StaleResponseAdvice} turns the flag into response
+ * headers. Outside of a web request marking is a no-op.
+ */
+public final class StaleResponseMarker {
+
+    static final String ATTRIBUTE = StaleResponseMarker.class.getName() + ".asOf";
+
+    private StaleResponseMarker() {}
+
+    /**
+     * @param asOf when the served data was last known to be fresh
+     */
+    public static void mark(Instant asOf) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (asOf == null || attributes == null) {
+            return;
+        }
+        Object current = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (current instanceof Instant previous && previous.isBefore(asOf)) {
+            return;
+        }
+        attributes.setAttribute(ATTRIBUTE, asOf, RequestAttributes.SCOPE_REQUEST);
+    }
+}
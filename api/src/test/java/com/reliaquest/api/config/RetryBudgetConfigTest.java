@@ -0,0 +1,83 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.service.remote.RetryBudget;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetConfigTest {
+
+    private final RetryBudget retryBudget = new RetryBudget(10, 0, Duration.ofMillis(1), Duration.ofMillis(50));
+
+    @Test
+    void retryAfterAboveMaxDelay_ShouldFailFastWithRetryAfter() {
+        TooManyRequestsException rateLimited = TooManyRequestsException.retryAfter(Duration.ofSeconds(30));
+        AtomicInteger calls = new AtomicInteger();
+
+        TooManyRequestsException thrown =
+                assertThrows(TooManyRequestsException.class, () -> rejectingCall(rateLimited, calls)
+                        .get());
+
+        assertSame(rateLimited, thrown);
+        assertEquals(Duration.ofSeconds(30), thrown.getRetryAfter().orElseThrow());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void retryAfterWithinMaxDelay_ShouldRetry() {
+        TooManyRequestsException rateLimited = TooManyRequestsException.retryAfter(Duration.ofMillis(10));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(TooManyRequestsException.class, () -> rejectingCall(rateLimited, calls)
+                .get());
+
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void exhaustedAttempts_ShouldWithdrawOnlyTheRetriesMade() {
+        TooManyRequestsException rateLimited = TooManyRequestsException.retryAfter(null);
+        long before = retryBudget.getAvailableRetries();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(TooManyRequestsException.class, () -> rejectingCall(rateLimited, calls)
+                .get());
+
+        assertEquals(3, calls.get());
+        assertEquals(before - 2, retryBudget.getAvailableRetries());
+    }
+
+    @Test
+    void emptyBudget_ShouldFailWithoutRetrying() {
+        while (retryBudget.tryAcquire()) {
+            // drain the initial balance
+        }
+        TooManyRequestsException rateLimited = TooManyRequestsException.retryAfter(null);
+        AtomicInteger calls = new AtomicInteger();
+
+        TooManyRequestsException thrown =
+                assertThrows(TooManyRequestsException.class, () -> rejectingCall(rateLimited, calls)
+                        .get());
+
+        assertSame(rateLimited, thrown);
+        assertEquals(1, calls.get());
+        assertEquals(0, retryBudget.getAvailableRetries());
+    }
+
+    private Supplier<Object> rejectingCall(TooManyRequestsException failure, AtomicInteger calls) {
+        RetryConfig.Builder<Object> builder = RetryConfig.custom().maxAttempts(3);
+        new RetryBudgetConfig().employeeWriteRetryCustomizer(retryBudget).customize(builder);
+        return Retry.decorateSupplier(Retry.of("employeeWrite", builder.build()), () -> {
+            calls.incrementAndGet();
+            throw failure;
+        });
+    }
+}
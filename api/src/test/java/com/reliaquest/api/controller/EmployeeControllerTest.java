@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.model.EmployeeCreationStatusDto;
 import com.reliaquest.api.model.EmployeeDto;
 import com.reliaquest.api.model.EmployeeRequestDto;
 import com.reliaquest.api.service.EmployeeService;
@@ -138,6 +139,26 @@ class EmployeeControllerTest {
         assertEquals("abc", response.getBody().getEmployeeName());
     }
 
+    @Test
+    void submitEmployeeCreation_ShouldReturnAcceptedWithStatusLocation() {
+        UUID trackingId = UUID.randomUUID();
+        EmployeeCreationStatusDto queued = EmployeeCreationStatusDto.builder()
+                .trackingId(trackingId)
+                .state(EmployeeCreationStatusDto.State.QUEUED)
+                .build();
+        when(employeeService.submitEmployeeCreation(any(EmployeeRequestDto.class)))
+                .thenReturn(queued);
+
+        ResponseEntity<EmployeeCreationStatusDto> response =
+                employeeController.submitEmployeeCreation(TestDataBuilder.createMockCreateEmployeeRequestDto());
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(queued, response.getBody());
+        assertEquals(
+                "/api/v1/employee/async/" + trackingId,
+                response.getHeaders().getLocation().toString());
+    }
+
     @Test
     void deleteEmployeeById_ShouldDeleteEmployee() {
         when(employeeService.deleteEmployeeById(anyString())).thenReturn("Deleted");
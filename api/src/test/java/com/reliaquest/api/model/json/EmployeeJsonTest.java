@@ -0,0 +1,149 @@
+package com.reliaquest.api.model.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeJsonTest {
+
+    /*
+     * Wire format shared with the mock server, whose MockEmployeeJsonTest pins the same document.
+     */
+    private static final String EMPLOYEE_JSON = "{\"id\":\"5255f1a5-f9f7-4be5-829a-134bde088d17\","
+            + "\"employee_name\":\"Bill Bob\",\"employee_salary\":89750,\"employee_age\":24,"
+            + "\"employee_title\":\"Documentation Engineer\",\"employee_email\":\"billBob@company.com\"}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /*
+     * Bean (reflective) binding of the same classes, used as the reference output.
+     */
+    private final ObjectMapper reflectiveMapper = new ObjectMapper()
+            .addMixIn(EmployeeDto.class, ReflectiveBinding.class)
+            .addMixIn(GetAllEmployeesResponseDto.class, ReflectiveBinding.class);
+
+    private final EmployeeDto employee = EmployeeDto.builder()
+            .id(UUID.fromString("5255f1a5-f9f7-4be5-829a-134bde088d17"))
+            .employeeName("Bill Bob")
+            .employeeSalary(89750)
+            .employeeAge(24)
+            .employeeTitle("Documentation Engineer")
+            .email("billBob@company.com")
+            .build();
+
+    @Test
+    void serialize_ShouldMatchReflectiveBinding() throws Exception {
+        EmployeeDto sparse = EmployeeDto.builder().employeeName("abc").build();
+
+        for (EmployeeDto value : List.of(employee, sparse)) {
+            assertEquals(
+                    reflectiveMapper.readTree(reflectiveMapper.writeValueAsString(value)),
+                    mapper.readTree(mapper.writeValueAsString(value)));
+        }
+    }
+
+    @Test
+    void serialize_ShouldMatchServerWireFormat() throws Exception {
+        assertEquals(mapper.readTree(EMPLOYEE_JSON), mapper.readTree(mapper.writeValueAsString(employee)));
+        assertEquals(employee, mapper.readValue(EMPLOYEE_JSON, EmployeeDto.class));
+    }
+
+    @Test
+    void deserialize_ShouldMatchReflectiveBindingAndSkipUnknownFields() throws Exception {
+        String json = "{\"id\":\"5255f1a5-f9f7-4be5-829a-134bde088d17\",\"employee_name\":\"Bill Bob\","
+                + "\"employee_salary\":89750,\"employee_age\":24,\"employee_title\":\"Documentation Engineer\","
+                + "\"employee_email\":\"billBob@company.com\",\"nested\":{\"ignored\":[1,2]}}";
+
+        EmployeeDto result = mapper.readValue(json, EmployeeDto.class);
+
+        assertEquals(employee, result);
+        assertEquals(
+                reflectiveMapper
+                        .readerFor(EmployeeDto.class)
+                        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .readValue(json),
+                result);
+    }
+
+    @Test
+    void deserialize_NullsAndMissingFields_ShouldStayNull() throws Exception {
+        EmployeeDto result = mapper.readValue("{\"id\":null,\"employee_salary\":null}", EmployeeDto.class);
+
+        assertNull(result.getId());
+        assertNull(result.getEmployeeSalary());
+        assertNull(result.getEmployeeName());
+    }
+
+    @Test
+    void deserialize_QuotedNumbers_ShouldBeAcceptedAndOtherStringsRejected() throws Exception {
+        EmployeeDto result = mapper.readValue("{\"employee_salary\":\" 89750 \"}", EmployeeDto.class);
+
+        assertEquals(89750, result.getEmployeeSalary());
+        assertThrows(
+                InvalidFormatException.class,
+                () -> mapper.readValue("{\"employee_age\":\"twenty\"}", EmployeeDto.class));
+    }
+
+    @Test
+    void deserialize_ObjectValuedName_ShouldBeRejected() {
+        assertThrows(
+                MismatchedInputException.class,
+                () -> mapper.readValue(
+                        "{\"employee_name\":{\"employee_salary\":1},\"employee_salary\":2}", EmployeeDto.class));
+    }
+
+    @Test
+    void getAllEmployeesResponse_ShouldRoundTripThroughJsonAndSmile() throws Exception {
+        GetAllEmployeesResponseDto response = GetAllEmployeesResponseDto.builder()
+                .data(Arrays.asList(
+                        employee, EmployeeDto.builder().employeeName("abc").build()))
+                .status("Successfully processed request.")
+                .build();
+        SmileMapper smileMapper = new SmileMapper();
+
+        assertEquals(response, mapper.readValue(mapper.writeValueAsBytes(response), GetAllEmployeesResponseDto.class));
+        assertEquals(
+                response,
+                smileMapper.readValue(smileMapper.writeValueAsBytes(response), GetAllEmployeesResponseDto.class));
+        assertEquals(
+                reflectiveMapper.readTree(reflectiveMapper.writeValueAsString(response)),
+                mapper.readTree(mapper.writeValueAsString(response)));
+    }
+
+    @Test
+    void getAllEmployeesResponse_ShouldSkipErrorField() throws Exception {
+        GetAllEmployeesResponseDto result = mapper.readValue(
+                "{\"status\":\"Failed to process request.\",\"error\":\"boom\"}", GetAllEmployeesResponseDto.class);
+
+        assertNull(result.getData());
+        assertEquals("Failed to process request.", result.getStatus());
+    }
+
+    @Test
+    void parseUuid_ShouldAcceptUpperCaseAndRejectNonCanonicalForms() {
+        String upper = "5255F1A5-F9F7-4BE5-829A-134BDE088D17";
+
+        assertEquals(UUID.fromString(upper), JsonUuids.parse(upper.toCharArray(), 0, upper.length()));
+        assertNull(JsonUuids.parse("1-2-3-4-5".toCharArray(), 0, 9));
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private abstract static class ReflectiveBinding {}
+}
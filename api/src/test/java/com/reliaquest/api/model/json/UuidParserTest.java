@@ -0,0 +1,34 @@
+package com.reliaquest.api.model.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidParserTest {
+
+    @Test
+    void parse_CanonicalUuid_ShouldMatchUuidFromString() {
+        for (int i = 0; i < 100; i++) {
+            UUID id = UUID.randomUUID();
+            assertEquals(id, UuidParser.parseOrNull(id.toString()));
+            assertEquals(id, UuidParser.parseOrNull(id.toString().toUpperCase()));
+        }
+    }
+
+    @Test
+    void parse_MalformedInput_ShouldReturnEmptyWithoutThrowing() {
+        assertTrue(UuidParser.parse(null).isEmpty());
+        assertTrue(UuidParser.parse("").isEmpty());
+        assertTrue(UuidParser.parse("invalid-uuid").isEmpty());
+        assertTrue(UuidParser.parse("5255f1a5-f9f7-4be5-829a-134bde088d1z").isEmpty());
+        assertTrue(UuidParser.parse("5255f1a5f9f7-4be5-829a-134bde088d17-").isEmpty());
+    }
+
+    @Test
+    void parseOrNull_NonCanonicalForm_ShouldBeRejected() {
+        assertNull(UuidParser.parseOrNull("1-2-3-4-5"));
+    }
+}
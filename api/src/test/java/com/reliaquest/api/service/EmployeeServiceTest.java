@@ -4,17 +4,36 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidRequestException;
+import com.reliaquest.api.exception.TooManyRequestsException;
 import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeIdsRequestDto;
+import com.reliaquest.api.model.EmployeeIdsResultDto;
 import com.reliaquest.api.model.EmployeeRequestDto;
+import com.reliaquest.api.model.SalaryPercentileDto;
+import com.reliaquest.api.service.analytics.RosterAggregator;
+import com.reliaquest.api.service.async.AsyncEmployeeCreator;
+import com.reliaquest.api.service.cache.EmployeeCache;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import com.reliaquest.api.service.peer.EmployeePeerSync;
+import com.reliaquest.api.service.remote.EmployeeLookupBatcher;
 import com.reliaquest.api.service.remote.EmployeeRemoteService;
 import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import com.reliaquest.api.service.roster.EmployeeRoster;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
 import com.reliaquest.api.testutils.TestDataBuilder;
 import com.reliaquest.api.validator.EmployeeValidator;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +50,24 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeValidator employeeValidator;
 
+    @Mock
+    private EmployeeRosterService employeeRosterService;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private AsyncEmployeeCreator asyncEmployeeCreator;
+
+    @Mock
+    private EmployeeLookupBatcher employeeLookupBatcher;
+
+    @Mock
+    private EmployeePeerSync employeePeerSync;
+
+    @Mock
+    private RosterAggregator rosterAggregator;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -69,9 +106,51 @@ class EmployeeServiceImplTest {
     }
 
     @Test
-    void testGetEmployeeById_WithInvalidId_ShouldThrowIllegalArgumentException() {
+    void testGetEmployeeById_CachedEmployee_ShouldNotCallRemoteService() {
+        EmployeeDto cached = mockEmployeeList.get(0);
+        when(employeeCache.get(cached.getId())).thenReturn(cached);
+
+        EmployeeDto result = employeeService.getEmployeeById(cached.getId().toString());
+
+        assertEquals(cached, result);
+        verifyNoInteractions(employeeRemoteService);
+    }
+
+    @Test
+    void testGetEmployeesByIds_ShouldServeCacheAndFetchMissesInOneCall() {
+        EmployeeDto cached = mockEmployeeList.get(0);
+        EmployeeDto fetched = mockEmployeeList.get(1);
+        UUID unknown = UUID.randomUUID();
+        when(employeeCache.get(cached.getId())).thenReturn(cached);
+        when(employeeRemoteService.getEmployeesByIds(List.of(unknown, fetched.getId())))
+                .thenReturn(GetAllEmployeesResponseDto.builder()
+                        .data(List.of(fetched))
+                        .build());
+
+        EmployeeIdsResultDto result = employeeService.getEmployeesByIds(new EmployeeIdsRequestDto(List.of(
+                unknown.toString(),
+                fetched.getId().toString(),
+                cached.getId().toString(),
+                fetched.getId().toString())));
+
+        assertEquals(List.of(fetched, cached), result.getEmployees());
+        assertEquals(List.of(unknown.toString()), result.getNotFound());
+        verify(employeeCache).put(fetched);
+    }
+
+    @Test
+    void testGetEmployeesByIds_WithInvalidId_ShouldThrowInvalidRequestException() {
+        EmployeeIdsRequestDto request = new EmployeeIdsRequestDto(
+                List.of(mockEmployeeList.get(0).getId().toString(), "invalid-uuid"));
+
+        assertThrows(InvalidRequestException.class, () -> employeeService.getEmployeesByIds(request));
+        verifyNoInteractions(employeeRemoteService);
+    }
+
+    @Test
+    void testGetEmployeeById_WithInvalidId_ShouldThrowInvalidRequestException() {
         String invalidId = "invalid-uuid";
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+        Exception exception = assertThrows(InvalidRequestException.class, () -> {
             employeeService.getEmployeeById(invalidId);
         });
         assertEquals(
@@ -83,12 +162,13 @@ class EmployeeServiceImplTest {
     void testDeleteEmployeeById_ShouldDeleteEmployee() {
         UUID uuid = mockEmployeeList.get(0).getId();
         when(employeeRemoteService.getEmployeeById(uuid)).thenReturn(TestDataBuilder.createGetEmployeeResponse());
-        when(employeeRemoteService.deleteEmployeeByName(any()))
+        when(employeeRemoteService.deleteEmployeeByName(any(), any()))
                 .thenReturn(TestDataBuilder.createDeleteEmployeeResponse());
 
         String result = employeeService.deleteEmployeeById(uuid.toString());
 
         assertEquals("Employee deleted successfully", result);
+        verify(employeeCache).invalidate(any());
     }
 
     @Test
@@ -116,11 +196,11 @@ class EmployeeServiceImplTest {
     @Test
     void testCreateEmployee_InvalidData_ShouldThrowValidationException() {
         EmployeeRequestDto invalidRequest = EmployeeRequestDto.builder().build();
-        doThrow(new IllegalArgumentException("Invalid employee data"))
+        doThrow(new InvalidRequestException("Invalid employee data"))
                 .when(employeeValidator)
                 .validateEmployeeData(invalidRequest);
 
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+        Exception exception = assertThrows(InvalidRequestException.class, () -> {
             employeeService.createEmployee(invalidRequest);
         });
         assertEquals("Invalid employee data", exception.getMessage());
@@ -128,21 +208,19 @@ class EmployeeServiceImplTest {
 
     @Test
     void testSearchEmployeesByName_ShouldReturnEmployee() {
-        GetAllEmployeesResponseDto mockResponse =
-                TestDataBuilder.createGetAllEmployeesResponse(); // Create the mock response
-        CompletableFuture<GetAllEmployeesResponseDto> mockFuture = CompletableFuture.completedFuture(mockResponse);
-
-        when(employeeRemoteService.getAllEmployees()).thenReturn(mockFuture);
+        when(employeeRemoteService.searchEmployeesByName("abc")).thenReturn(Optional.empty());
+        when(employeeRosterService.getRoster()).thenReturn(new EmployeeRoster(1, mockEmployeeList, Instant.now()));
 
         List<EmployeeDto> result = employeeService.searchEmployeesByName("abc");
 
         assertEquals(1, result.size());
         assertEquals("abc", result.get(0).getEmployeeName());
+        verify(employeeRemoteService, never()).getAllEmployees();
     }
 
     @Test
-    void testSearchEmployeesByName_EmptyName_ShouldThrowIllegalArgumentException() {
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+    void testSearchEmployeesByName_EmptyName_ShouldThrowInvalidRequestException() {
+        Exception exception = assertThrows(InvalidRequestException.class, () -> {
             employeeService.searchEmployeesByName("");
         });
         assertEquals("Search string(name) cannot be empty", exception.getMessage());
@@ -150,27 +228,68 @@ class EmployeeServiceImplTest {
 
     @Test
     void testGetHighestSalaryOfEmployees_ShouldReturnEmployee() {
-        GetAllEmployeesResponseDto mockResponse =
-                TestDataBuilder.createGetAllEmployeesResponse(); // Create the mock response
-        CompletableFuture<GetAllEmployeesResponseDto> mockFuture = CompletableFuture.completedFuture(mockResponse);
-
-        when(employeeRemoteService.getAllEmployees()).thenReturn(mockFuture);
+        when(employeeRemoteService.getHighestSalary()).thenReturn(OptionalInt.empty());
+        when(employeeRosterService.getRoster()).thenReturn(new EmployeeRoster(1, mockEmployeeList, Instant.now()));
 
         int highestSalary = employeeService.getHighestSalaryOfEmployees();
 
         assertEquals(7000, highestSalary);
+        verify(employeeRemoteService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees_PushedDown_ShouldNotFetchRoster() {
+        when(employeeRemoteService.getHighestSalary()).thenReturn(OptionalInt.of(9000));
+
+        assertEquals(9000, employeeService.getHighestSalaryOfEmployees());
+        verify(employeeRemoteService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees_UpstreamUnavailable_ShouldComputeFromStaleRoster() {
+        EmployeeRoster staleRoster =
+                new EmployeeRoster(1, mockEmployeeList, Instant.now().minus(Duration.ofHours(1)));
+        when(employeeRemoteService.getHighestSalary()).thenReturn(OptionalInt.empty());
+        when(employeeRosterService.getRoster()).thenReturn(staleRoster);
+        when(employeeRosterService.isStale(staleRoster)).thenReturn(true);
+
+        assertEquals(7000, employeeService.getHighestSalaryOfEmployees());
+        verify(employeeRosterService).isStale(staleRoster);
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees_UnavailableWithoutRoster_ShouldPropagateFailure() {
+        when(employeeRemoteService.getHighestSalary()).thenThrow(TooManyRequestsException.retryAfter(null));
+
+        assertThrows(TooManyRequestsException.class, () -> employeeService.getHighestSalaryOfEmployees());
+        verifyNoInteractions(employeeRosterService);
     }
 
     @Test
     void testGetTopTenHighestEarningEmployeeNames_ShouldReturn10Employees() {
-        GetAllEmployeesResponseDto mockResponse =
-                TestDataBuilder.createGetAllEmployeesResponse(); // Create the mock response
-        CompletableFuture<GetAllEmployeesResponseDto> mockFuture = CompletableFuture.completedFuture(mockResponse);
-        when(employeeRemoteService.getAllEmployees()).thenReturn(mockFuture);
+        when(employeeRemoteService.getTopEarningEmployees(10)).thenReturn(Optional.empty());
+        when(employeeRosterService.getRoster()).thenReturn(new EmployeeRoster(1, mockEmployeeList, Instant.now()));
 
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
 
         assertEquals(3, result.size());
         assertEquals("xyz", result.get(0));
+        verify(employeeRemoteService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetSalaryPercentiles_ShouldReturnSalaryPerPercentile() {
+        when(employeeRosterService.getRoster()).thenReturn(new EmployeeRoster(1, mockEmployeeList, Instant.now()));
+
+        List<SalaryPercentileDto> result = employeeService.getSalaryPercentiles(List.of(50.0, 100.0));
+
+        assertEquals(2, result.size());
+        assertEquals(5000, result.get(0).getSalary());
+        assertEquals(7000, result.get(1).getSalary());
+    }
+
+    @Test
+    void testCountEmployeesBySalaryRange_InvalidRange_ShouldThrowInvalidRequestException() {
+        assertThrows(InvalidRequestException.class, () -> employeeService.countEmployeesBySalaryRange(10, 1));
     }
 }
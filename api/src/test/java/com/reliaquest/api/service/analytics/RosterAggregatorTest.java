@@ -0,0 +1,102 @@
+package com.reliaquest.api.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeGroupStatsDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RosterAggregatorTest {
+
+    private final List<EmployeeDto> roster = List.of(
+            employee("Ann", "Engineer", 5000, 34),
+            employee("Bob", "Engineer", 7000, 38),
+            employee("Cid", "Engineer", null, 41),
+            employee("Dee", "Manager", 9000, 45),
+            employee("Eve", null, 3000, null));
+
+    @Test
+    void byTitle_ShouldAggregateLargestGroupsFirst() {
+        List<EmployeeGroupStatsDto> byTitle =
+                new RosterAggregator(10).aggregate(roster).byTitle(1);
+
+        assertEquals(
+                List.of("Engineer", "Manager"),
+                List.of(byTitle.get(0).getGroup(), byTitle.get(1).getGroup()));
+        assertNull(byTitle.get(2).getGroup());
+
+        EmployeeGroupStatsDto engineers = byTitle.get(0);
+        assertEquals(3, engineers.getHeadcount());
+        assertEquals(12000, engineers.getSalarySum());
+        assertEquals(6000.0, engineers.getAverageSalary());
+        assertEquals(7000, engineers.getMaxSalary());
+        assertEquals(List.of("Bob"), names(engineers.getTopEarners()));
+    }
+
+    @Test
+    void byAgeBand_ShouldOrderBandsAndPutMissingAgesLast() {
+        List<EmployeeGroupStatsDto> byAgeBand =
+                new RosterAggregator(10).aggregate(roster).byAgeBand(3);
+
+        assertEquals(
+                List.of("30-39", "40-49"),
+                byAgeBand.subList(0, 2).stream()
+                        .map(EmployeeGroupStatsDto::getGroup)
+                        .toList());
+        assertNull(byAgeBand.get(2).getGroup());
+        assertEquals(List.of("Dee"), names(byAgeBand.get(1).getTopEarners()));
+        assertEquals(List.of("Bob", "Ann"), names(byAgeBand.get(0).getTopEarners()));
+    }
+
+    @Test
+    void aggregate_ParallelShouldMatchSequential() {
+        Random random = new Random(7);
+        String[] titles = {"Engineer", "Manager", "Analyst", null};
+        List<EmployeeDto> employees = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            employees.add(employee(
+                    "Employee " + i,
+                    titles[random.nextInt(titles.length)],
+                    i % 13 == 0 ? null : random.nextInt(200_000),
+                    i % 17 == 0 ? null : 16 + random.nextInt(55)));
+        }
+
+        RosterAggregates sequential = new RosterAggregator(Integer.MAX_VALUE).aggregate(employees);
+        RosterAggregates parallel = new RosterAggregator(64).aggregate(employees);
+
+        assertEquals(sequential.byTitle(RosterAggregates.MAX_TOP_EARNERS), parallel.byTitle(10));
+        assertEquals(sequential.byAgeBand(RosterAggregates.MAX_TOP_EARNERS), parallel.byAgeBand(10));
+    }
+
+    @Test
+    void byTitle_TooManyTopEarners_ShouldThrowIllegalArgumentException() {
+        RosterAggregates aggregates = new RosterAggregator(10).aggregate(roster);
+
+        assertThrows(IllegalArgumentException.class, () -> aggregates.byTitle(RosterAggregates.MAX_TOP_EARNERS + 1));
+    }
+
+    @Test
+    void constructor_NonPositiveThreshold_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RosterAggregator(0));
+    }
+
+    private static List<String> names(List<EmployeeDto> employees) {
+        return employees.stream().map(EmployeeDto::getEmployeeName).toList();
+    }
+
+    private static EmployeeDto employee(String name, String title, Integer salary, Integer age) {
+        return EmployeeDto.builder()
+                .id(UUID.randomUUID())
+                .employeeName(name)
+                .employeeTitle(title)
+                .employeeSalary(salary)
+                .employeeAge(age)
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package com.reliaquest.api.service.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.FeatureDisabledException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.EmployeeCreationStatusDto;
+import com.reliaquest.api.model.EmployeeCreationStatusDto.State;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.EmployeeRequestDto;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.peer.EmployeePeerSync;
+import com.reliaquest.api.service.remote.EmployeeRemoteService;
+import com.reliaquest.api.service.remote.dto.EmployeeResponseDto;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import com.reliaquest.api.testutils.TestDataBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEmployeeCreatorTest {
+
+    @Mock
+    private EmployeeRemoteService employeeRemoteService;
+
+    @Mock
+    private EmployeeRosterService employeeRosterService;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private EmployeePeerSync employeePeerSync;
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final EmployeeRequestDto request = TestDataBuilder.createMockCreateEmployeeRequestDto();
+
+    private AsyncEmployeeCreator creator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        creator = newCreator(true);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        creator.destroy();
+    }
+
+    @Test
+    void flush_ShouldCreateQueuedEmployeeAndPatchRoster() {
+        EmployeeDto employee = TestDataBuilder.createMockEmployee();
+        when(employeeRemoteService.createEmployee(request))
+                .thenReturn(EmployeeResponseDto.builder().data(employee).build());
+
+        EmployeeCreationStatusDto queued = creator.submit(request);
+        assertEquals(State.QUEUED, queued.getState());
+
+        creator.flush();
+
+        EmployeeCreationStatusDto status =
+                creator.getStatus(queued.getTrackingId()).orElseThrow();
+        assertEquals(State.CREATED, status.getState());
+        assertEquals(employee, status.getEmployee());
+        assertEquals(0, creator.getQueueSize());
+        verify(employeeRosterService).applyCreated(employee);
+        verify(employeeCache).put(employee);
+        verify(employeePeerSync).broadcastCreated(employee);
+    }
+
+    @Test
+    void flush_RateLimited_ShouldKeepCreationQueuedAndBackOff() {
+        when(employeeRemoteService.createEmployee(any())).thenThrow(TooManyRequestsException.MAX_RETRIES_EXCEEDED);
+
+        EmployeeCreationStatusDto queued = creator.submit(request);
+        creator.submit(request);
+        creator.flush();
+        creator.flush();
+
+        assertEquals(
+                State.QUEUED,
+                creator.getStatus(queued.getTrackingId()).orElseThrow().getState());
+        assertEquals(2, creator.getQueueSize());
+        verify(employeeRemoteService, times(1)).createEmployee(any());
+    }
+
+    @Test
+    void restart_ShouldReplayCreationsThatWereNotFlushed() throws IOException {
+        EmployeeCreationStatusDto queued = creator.submit(request);
+        creator.destroy();
+
+        creator = newCreator(true);
+
+        assertEquals(1, creator.getQueueSize());
+        assertEquals(
+                State.QUEUED,
+                creator.getStatus(queued.getTrackingId()).orElseThrow().getState());
+    }
+
+    @Test
+    void restart_TornJournalTail_ShouldBeCutBeforeAppending() throws IOException {
+        EmployeeCreationStatusDto first = creator.submit(request);
+        creator.destroy();
+        Path journal = directory.resolve("pending-creations.log");
+        Files.writeString(journal, "{\"op\":\"queued\",\"tracking", StandardOpenOption.APPEND);
+
+        creator = newCreator(true);
+        EmployeeCreationStatusDto second = creator.submit(request);
+        creator.destroy();
+        creator = newCreator(true);
+
+        assertEquals(2, Files.readAllLines(journal).size());
+        assertEquals(2, creator.getQueueSize());
+        assertEquals(
+                State.QUEUED,
+                creator.getStatus(first.getTrackingId()).orElseThrow().getState());
+        assertEquals(
+                State.QUEUED,
+                creator.getStatus(second.getTrackingId()).orElseThrow().getState());
+    }
+
+    @Test
+    void flush_CompletionsBehindQueuedCreations_ShouldCompactJournal() throws IOException {
+        creator.destroy();
+        creator = newCreator(true, 1);
+        when(employeeRemoteService.createEmployee(any()))
+                .thenReturn(EmployeeResponseDto.builder()
+                        .data(TestDataBuilder.createMockEmployee())
+                        .build())
+                .thenThrow(new IllegalStateException("Employee service unavailable"));
+
+        creator.submit(request);
+        EmployeeCreationStatusDto second = creator.submit(request);
+        EmployeeCreationStatusDto third = creator.submit(request);
+        creator.flush();
+
+        assertEquals(
+                2,
+                Files.readAllLines(directory.resolve("pending-creations.log")).size());
+        creator.destroy();
+        creator = newCreator(true);
+        assertEquals(2, creator.getQueueSize());
+        assertEquals(
+                State.QUEUED,
+                creator.getStatus(second.getTrackingId()).orElseThrow().getState());
+        assertEquals(
+                State.QUEUED,
+                creator.getStatus(third.getTrackingId()).orElseThrow().getState());
+    }
+
+    @Test
+    void submit_Disabled_ShouldThrowFeatureDisabledException() throws IOException {
+        creator.destroy();
+        creator = newCreator(false);
+
+        assertThrows(FeatureDisabledException.class, () -> creator.submit(request));
+    }
+
+    private AsyncEmployeeCreator newCreator(boolean enabled) throws IOException {
+        return newCreator(enabled, 1000);
+    }
+
+    private AsyncEmployeeCreator newCreator(boolean enabled, int compactionThreshold) throws IOException {
+        return new AsyncEmployeeCreator(
+                employeeRemoteService,
+                employeeRosterService,
+                employeeCache,
+                employeePeerSync,
+                objectMapper,
+                enabled,
+                directory.resolve("pending-creations.log"),
+                10,
+                Duration.ofHours(1),
+                3,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(60),
+                Duration.ofHours(1),
+                compactionThreshold);
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.service.feed;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.remote.shard.EmployeeShards;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeFeedSubscriberTest {
+
+    private static final String SHARD = "http://localhost:8112/api/v1";
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private AppConfig appConfig;
+
+    @Mock
+    private EmployeeShards employeeShards;
+
+    @Mock
+    private EmployeeRosterService employeeRosterService;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    private EmployeeChangeFeedSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new EmployeeChangeFeedSubscriber(
+                webClient,
+                appConfig,
+                employeeShards,
+                employeeRosterService,
+                employeeCache,
+                new ObjectMapper(),
+                true,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30));
+    }
+
+    @Test
+    void apply_CreatedEvent_ShouldPatchRosterAndCache() {
+        UUID id = UUID.randomUUID();
+        String data = "{\"sequence\":1,\"type\":\"CREATED\",\"id\":\"" + id + "\",\"employee\":{\"id\":\"" + id
+                + "\",\"employee_name\":\"abc\",\"employee_salary\":5000}}";
+
+        subscriber.apply(SHARD, event("created", data));
+
+        verify(employeeRosterService).applyCreated(any(EmployeeDto.class));
+        verify(employeeCache).put(any(EmployeeDto.class));
+    }
+
+    @Test
+    void apply_DeletedEvent_ShouldPatchRosterAndInvalidateCache() {
+        UUID id = UUID.randomUUID();
+        String data = "{\"sequence\":2,\"type\":\"DELETED\",\"id\":\"" + id + "\"}";
+
+        subscriber.apply(SHARD, event("deleted", data));
+
+        verify(employeeRosterService).applyDeleted(id);
+        verify(employeeCache).invalidate(id);
+    }
+
+    @Test
+    void apply_ResetEvent_ShouldDropRosterAndCache() {
+        subscriber.apply(SHARD, event("reset", ""));
+
+        verify(employeeRosterService).invalidate();
+        verify(employeeCache).invalidateAll();
+    }
+
+    @Test
+    void apply_OpenEvent_ShouldMarkFeedLiveOnceAllShardsConnected() {
+        when(employeeShards.size()).thenReturn(1);
+
+        subscriber.apply(SHARD, event("open", ""));
+
+        verify(employeeRosterService).setChangeFeedLive(true);
+    }
+
+    @Test
+    void apply_UnreadableEvent_ShouldBeIgnored() {
+        subscriber.apply(SHARD, event("created", "not json"));
+
+        verify(employeeRosterService, never()).applyCreated(any());
+        verify(employeeCache, never()).put(any());
+    }
+
+    private static ServerSentEvent<String> event(String name, String data) {
+        return ServerSentEvent.<String>builder()
+                .id("1:1")
+                .event(name)
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeBitmapIndexTest {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst"};
+
+    private final List<EmployeeDto> employees = IntStream.range(0, 1000)
+            .mapToObj(i -> EmployeeDto.builder()
+                    .id(UUID.randomUUID())
+                    .employeeName("employee" + i)
+                    .employeeTitle(TITLES[i % TITLES.length])
+                    .employeeAge(16 + i % 50)
+                    .employeeSalary(30000 + i * 97)
+                    .email("employee" + i + (i % 2 == 0 ? "@company.com" : "@partner.org"))
+                    .build())
+            .toList();
+
+    private final EmployeeBitmapIndex index = EmployeeBitmapIndex.of(employees);
+
+    @Test
+    void filter_WithoutPredicates_ShouldMatchEveryEmployee() {
+        long[] matches = index.filter(null, null, null, null, null, null);
+
+        assertEquals(employees.size(), EmployeeBitmapIndex.cardinality(matches));
+    }
+
+    @Test
+    void filter_CombinedPredicates_ShouldMatchScan() {
+        long[] matches = index.filter("manager", "Company.com", 20, 40, 41000, 95000);
+
+        List<EmployeeDto> expected = employees.stream()
+                .filter(e -> e.getEmployeeTitle().equals("Manager"))
+                .filter(e -> e.getEmail().endsWith("@company.com"))
+                .filter(e -> e.getEmployeeAge() >= 20 && e.getEmployeeAge() <= 40)
+                .filter(e -> e.getEmployeeSalary() >= 41000 && e.getEmployeeSalary() <= 95000)
+                .toList();
+        assertEquals(expected.size(), EmployeeBitmapIndex.cardinality(matches));
+        assertEquals(expected, index.employees(matches, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void filter_SalaryRangeInsideBin_ShouldBeExact() {
+        // 1000 distinct salaries are binned, so these bounds fall between cut points
+        long[] matches = index.filter(null, null, null, null, 30001, 30194);
+
+        assertEquals(List.of(employees.get(1), employees.get(2)), index.employees(matches, 10));
+    }
+
+    @Test
+    void filter_UnknownTitle_ShouldMatchNothing() {
+        long[] matches = index.filter("Astronaut", null, null, null, null, null);
+
+        assertEquals(0, EmployeeBitmapIndex.cardinality(matches));
+    }
+
+    @Test
+    void employees_ShouldRespectLimit() {
+        long[] matches = index.filter(null, null, 16, 16, null, null);
+
+        assertEquals(5, index.employees(matches, 5).size());
+        assertEquals(20, EmployeeBitmapIndex.cardinality(matches));
+    }
+
+    @Test
+    void filter_NullAttributes_ShouldNeverMatchRangePredicates() {
+        List<EmployeeDto> withMissing = new ArrayList<>(employees.subList(0, 10));
+        withMissing.add(EmployeeDto.builder().id(UUID.randomUUID()).build());
+        EmployeeBitmapIndex sparseIndex = EmployeeBitmapIndex.of(withMissing);
+
+        assertEquals(10, EmployeeBitmapIndex.cardinality(sparseIndex.filter(null, null, 0, 100, null, null)));
+    }
+}
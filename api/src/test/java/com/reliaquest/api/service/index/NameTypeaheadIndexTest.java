@@ -0,0 +1,113 @@
+package com.reliaquest.api.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class NameTypeaheadIndexTest {
+
+    private final NameTypeaheadIndex index = NameTypeaheadIndex.of(List.of(
+            employee("John Smith", 5000),
+            employee("Johanna Smithers", 9000),
+            employee("Mary Johnson", 7000),
+            employee("Bob Jones", null),
+            employee(null, 8000)));
+
+    @Test
+    void complete_ShouldMatchAnyWordRankedBySalary() {
+        assertEquals(List.of("Johanna Smithers", "Mary Johnson", "John Smith", "Bob Jones"), names("jo"));
+        assertEquals(List.of("Johanna Smithers", "John Smith"), names("SMI"));
+        assertEquals(List.of("John Smith"), names("john sm"));
+    }
+
+    @Test
+    void complete_TrailingSpace_ShouldRequireAnotherWord() {
+        assertEquals(List.of("John Smith"), names("john "));
+        assertEquals(List.of("John Smith"), names("  john   s"));
+    }
+
+    @Test
+    void complete_UnknownPrefix_ShouldReturnEmpty() {
+        assertTrue(index.complete("johnx", 10).isEmpty());
+        assertTrue(index.complete("z", 10).isEmpty());
+    }
+
+    @Test
+    void complete_ShouldHonourLimit() {
+        assertEquals(
+                List.of("Johanna Smithers", "Mary Johnson"),
+                index.complete("jo", 2).stream()
+                        .map(EmployeeDto::getEmployeeName)
+                        .toList());
+        assertThrows(
+                IllegalArgumentException.class, () -> index.complete("jo", NameTypeaheadIndex.MAX_SUGGESTIONS + 1));
+    }
+
+    @Test
+    void complete_EmptyRoster_ShouldReturnEmpty() {
+        NameTypeaheadIndex empty = NameTypeaheadIndex.of(List.of());
+
+        assertEquals(0, empty.size());
+        assertTrue(empty.complete("a", 10).isEmpty());
+    }
+
+    @Test
+    void complete_ShouldAgreeWithLinearScan() {
+        Random random = new Random(42);
+        String[] words = {"ann", "anna", "annie", "bo", "bob", "bobby", "al", "alan", "alana", "b"};
+        List<EmployeeDto> employees = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            employees.add(employee(name, random.nextInt(50) * 1000));
+        }
+        NameTypeaheadIndex randomIndex = NameTypeaheadIndex.of(employees);
+
+        for (String prefix : List.of("a", "an", "ann", "anni", "b", "bo", "bob ", "al a", "alana b", "c")) {
+            List<EmployeeDto> expected = employees.stream()
+                    .filter(employee -> Arrays.stream(wordStarts(employee.getEmployeeName()))
+                            .anyMatch(start -> start.startsWith(prefix)))
+                    .sorted(Comparator.comparing(EmployeeDto::getEmployeeSalary, Comparator.reverseOrder())
+                            .thenComparing(EmployeeDto::getEmployeeName))
+                    .limit(NameTypeaheadIndex.MAX_SUGGESTIONS)
+                    .toList();
+            List<EmployeeDto> actual = randomIndex.complete(prefix, NameTypeaheadIndex.MAX_SUGGESTIONS);
+
+            assertEquals(salariesAndNames(expected), salariesAndNames(actual), prefix);
+        }
+    }
+
+    private List<String> names(String prefix) {
+        return index.complete(prefix, NameTypeaheadIndex.MAX_SUGGESTIONS).stream()
+                .map(EmployeeDto::getEmployeeName)
+                .toList();
+    }
+
+    private static String[] wordStarts(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return new String[] {lower, lower.substring(lower.indexOf(' ') + 1)};
+    }
+
+    private static List<String> salariesAndNames(List<EmployeeDto> employees) {
+        return employees.stream()
+                .map(employee -> employee.getEmployeeSalary() + " " + employee.getEmployeeName())
+                .toList();
+    }
+
+    private static EmployeeDto employee(String name, Integer salary) {
+        return EmployeeDto.builder()
+                .id(UUID.randomUUID())
+                .employeeName(name)
+                .employeeSalary(salary)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.model.SalaryBucketDto;
+import com.reliaquest.api.testutils.TestDataBuilder;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private final SalaryIndex salaryIndex = SalaryIndex.of(TestDataBuilder.createMockEmployeeList());
+
+    @Test
+    void percentile_ShouldUseNearestRank() {
+        assertEquals(3000, salaryIndex.percentile(0).getAsInt());
+        assertEquals(5000, salaryIndex.percentile(50).getAsInt());
+        assertEquals(7000, salaryIndex.percentile(99).getAsInt());
+        assertEquals(7000, salaryIndex.percentile(100).getAsInt());
+    }
+
+    @Test
+    void percentile_OutOfRange_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> salaryIndex.percentile(101));
+    }
+
+    @Test
+    void percentile_EmptyRoster_ShouldReturnEmpty() {
+        assertTrue(SalaryIndex.of(List.of()).percentile(50).isEmpty());
+    }
+
+    @Test
+    void countInRange_ShouldIncludeBounds() {
+        assertEquals(2, salaryIndex.countInRange(3000, 5000));
+        assertEquals(3, salaryIndex.countInRange(0, Integer.MAX_VALUE));
+        assertEquals(0, salaryIndex.countInRange(5001, 6999));
+        assertEquals(0, salaryIndex.countInRange(7000, 3000));
+    }
+
+    @Test
+    void employeesInRange_ShouldReturnAscendingSalary() {
+        List<EmployeeDto> result = salaryIndex.employeesInRange(4000, 8000);
+
+        assertEquals(2, result.size());
+        assertEquals("abc", result.get(0).getEmployeeName());
+        assertEquals("xyz", result.get(1).getEmployeeName());
+    }
+
+    @Test
+    void histogram_ShouldCoverAllSalaries() {
+        List<SalaryBucketDto> histogram = salaryIndex.histogram(2);
+
+        assertEquals(2, histogram.size());
+        assertEquals(3000, histogram.get(0).getLowerBound());
+        assertEquals(7000, histogram.get(1).getUpperBound());
+        assertEquals(3, histogram.stream().mapToInt(SalaryBucketDto::getCount).sum());
+    }
+
+    @Test
+    void histogram_ShouldReturnRequestedNumberOfBuckets() {
+        List<EmployeeDto> employees = IntStream.rangeClosed(0, 10)
+                .mapToObj(salary -> EmployeeDto.builder()
+                        .id(UUID.randomUUID())
+                        .employeeSalary(salary)
+                        .build())
+                .toList();
+
+        List<SalaryBucketDto> histogram = SalaryIndex.of(employees).histogram(10);
+
+        assertEquals(10, histogram.size());
+        assertEquals(0, histogram.get(0).getLowerBound());
+        assertEquals(10, histogram.get(9).getUpperBound());
+        for (int i = 1; i < histogram.size(); i++) {
+            assertEquals(
+                    histogram.get(i - 1).getUpperBound() + 1, histogram.get(i).getLowerBound());
+        }
+        assertEquals(11, histogram.stream().mapToInt(SalaryBucketDto::getCount).sum());
+    }
+
+    @Test
+    void histogram_NarrowRange_ShouldPadWithEmptyBuckets() {
+        List<SalaryBucketDto> histogram = SalaryIndex.of(List.of(EmployeeDto.builder()
+                        .id(UUID.randomUUID())
+                        .employeeSalary(5000)
+                        .build()))
+                .histogram(3);
+
+        assertEquals(3, histogram.size());
+        assertEquals(5000, histogram.get(0).getLowerBound());
+        assertEquals(5002, histogram.get(2).getUpperBound());
+        assertEquals(1, histogram.get(0).getCount());
+        assertEquals(0, histogram.get(2).getCount());
+    }
+}
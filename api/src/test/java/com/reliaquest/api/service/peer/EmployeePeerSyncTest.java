@@ -0,0 +1,106 @@
+package com.reliaquest.api.service.peer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.reliaquest.api.model.EmployeeDeltaDto;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import com.reliaquest.api.testutils.TestDataBuilder;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeePeerSyncTest {
+
+    @Mock
+    private EmployeeRosterService employeeRosterService;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    private EmployeePeerSync employeePeerSync;
+
+    private final EmployeeDto employee = TestDataBuilder.createMockEmployee();
+
+    @BeforeEach
+    void setUp() {
+        employeePeerSync = newPeerSync(List.of("http://localhost:8081"), "secret");
+    }
+
+    @Test
+    void apply_CreatedFromPeer_ShouldPatchRosterAndCache() {
+        assertTrue(employeePeerSync.apply(delta("node-b", EmployeeDeltaDto.Type.CREATED, employee)));
+
+        verify(employeeRosterService).applyCreated(employee);
+        verify(employeeCache).put(employee);
+    }
+
+    @Test
+    void apply_DeletedFromPeer_ShouldPatchRosterAndInvalidateCache() {
+        assertTrue(employeePeerSync.apply(delta("node-b", EmployeeDeltaDto.Type.DELETED, null)));
+
+        verify(employeeRosterService).applyDeleted(employee.getId());
+        verify(employeeCache).invalidate(employee.getId());
+    }
+
+    @Test
+    void apply_OwnDelta_ShouldBeIgnored() {
+        assertFalse(employeePeerSync.apply(delta("node-a", EmployeeDeltaDto.Type.CREATED, employee)));
+
+        verifyNoInteractions(employeeRosterService, employeeCache);
+    }
+
+    @Test
+    void isAuthorized_ShouldRequireConfiguredToken() {
+        assertTrue(employeePeerSync.isAuthorized("secret"));
+        assertFalse(employeePeerSync.isAuthorized("guess"));
+        assertFalse(employeePeerSync.isAuthorized(null));
+    }
+
+    @Test
+    void isAuthorized_WithoutToken_ShouldRejectEveryCaller() {
+        EmployeePeerSync withoutToken = newPeerSync(List.of("http://localhost:8081"), "");
+
+        assertFalse(withoutToken.isEnabled());
+        assertFalse(withoutToken.isAuthorized(null));
+        assertFalse(withoutToken.isAuthorized(""));
+    }
+
+    @Test
+    void isAuthorized_WithoutPeers_ShouldRejectEveryCaller() {
+        EmployeePeerSync withoutPeers = newPeerSync(List.of(), "secret");
+
+        assertFalse(withoutPeers.isEnabled());
+        assertFalse(withoutPeers.isAuthorized("secret"));
+    }
+
+    private EmployeePeerSync newPeerSync(List<String> peerUrls, String token) {
+        return new EmployeePeerSync(
+                employeeRosterService,
+                employeeCache,
+                WebClient.builder(),
+                peerUrls,
+                "node-a",
+                token,
+                Duration.ofMillis(500));
+    }
+
+    private EmployeeDeltaDto delta(String origin, EmployeeDeltaDto.Type type, EmployeeDto payload) {
+        return EmployeeDeltaDto.builder()
+                .origin(origin)
+                .type(type)
+                .id(employee.getId())
+                .employee(payload)
+                .build();
+    }
+}
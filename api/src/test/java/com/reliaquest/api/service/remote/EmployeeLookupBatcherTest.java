@@ -0,0 +1,138 @@
+package com.reliaquest.api.service.remote;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceRemoteException;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import com.reliaquest.api.service.remote.dto.GetEmployeeResponseDto;
+import com.reliaquest.api.testutils.TestDataBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeLookupBatcherTest {
+
+    @Mock
+    private EmployeeRemoteService employeeRemoteService;
+
+    private final List<EmployeeDto> roster = TestDataBuilder.createMockEmployeeList();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void load_ConcurrentLookups_ShouldShareOneUpstreamCall() throws Exception {
+        when(employeeRemoteService.getEmployeesByIds(anyCollection()))
+                .thenReturn(GetAllEmployeesResponseDto.builder().data(roster).build());
+        EmployeeLookupBatcher batcher =
+                new EmployeeLookupBatcher(employeeRemoteService, true, Duration.ofSeconds(5), 3);
+        CountDownLatch busy = occupy(batcher);
+
+        List<Future<GetEmployeeResponseDto>> results = roster.stream()
+                .map(employee -> callers.submit(() -> batcher.load(employee.getId())))
+                .toList();
+
+        for (int i = 0; i < roster.size(); i++) {
+            assertEquals(roster.get(i), results.get(i).get().getData());
+        }
+        busy.countDown();
+        verify(employeeRemoteService, times(1)).getEmployeesByIds(anyCollection());
+        verify(employeeRemoteService, times(1)).getEmployeeById(any());
+    }
+
+    @Test
+    void load_UnknownIdInBatch_ShouldFailOnlyThatLookup() throws Exception {
+        when(employeeRemoteService.getEmployeesByIds(anyCollection()))
+                .thenReturn(GetAllEmployeesResponseDto.builder()
+                        .data(List.of(roster.get(0)))
+                        .build());
+        EmployeeLookupBatcher batcher =
+                new EmployeeLookupBatcher(employeeRemoteService, true, Duration.ofSeconds(5), 2);
+        CountDownLatch busy = occupy(batcher);
+
+        Future<GetEmployeeResponseDto> known =
+                callers.submit(() -> batcher.load(roster.get(0).getId()));
+        Future<GetEmployeeResponseDto> unknown = callers.submit(() -> batcher.load(UUID.randomUUID()));
+
+        assertEquals(roster.get(0), known.get().getData());
+        Exception failure = assertThrows(Exception.class, unknown::get);
+        assertEquals(EmployeeNotFoundException.EMPLOYEE_NOT_FOUND, failure.getCause());
+        busy.countDown();
+    }
+
+    @Test
+    void load_UnknownIdInStaleBatch_ShouldFailAsUnavailable() throws Exception {
+        when(employeeRemoteService.getEmployeesByIds(anyCollection()))
+                .thenReturn(GetAllEmployeesResponseDto.builder()
+                        .data(List.of(roster.get(0)))
+                        .staleAsOf(Instant.now())
+                        .build());
+        EmployeeLookupBatcher batcher =
+                new EmployeeLookupBatcher(employeeRemoteService, true, Duration.ofSeconds(5), 2);
+        CountDownLatch busy = occupy(batcher);
+
+        Future<GetEmployeeResponseDto> known =
+                callers.submit(() -> batcher.load(roster.get(0).getId()));
+        Future<GetEmployeeResponseDto> unknown = callers.submit(() -> batcher.load(UUID.randomUUID()));
+
+        assertEquals(roster.get(0), known.get().getData());
+        Exception failure = assertThrows(Exception.class, unknown::get);
+        assertInstanceOf(EmployeeServiceRemoteException.class, failure.getCause());
+        busy.countDown();
+    }
+
+    @Test
+    void load_NoOtherLookupInFlight_ShouldUsePlainLookupWithoutWaiting() {
+        UUID id = roster.get(0).getId();
+        when(employeeRemoteService.getEmployeeById(id)).thenReturn(TestDataBuilder.createGetEmployeeResponse());
+        EmployeeLookupBatcher batcher =
+                new EmployeeLookupBatcher(employeeRemoteService, true, Duration.ofSeconds(5), 100);
+
+        GetEmployeeResponseDto response = assertTimeout(Duration.ofSeconds(1), () -> batcher.load(id));
+
+        assertEquals("abc", response.getData().getEmployeeName());
+        verify(employeeRemoteService, never()).getEmployeesByIds(anyCollection());
+    }
+
+    /*
+     * Keeps one plain lookup in flight until the returned latch is released, so that the next lookups overlap it.
+     */
+    private CountDownLatch occupy(EmployeeLookupBatcher batcher) {
+        UUID id = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeRemoteService.getEmployeeById(id)).thenAnswer(invocation -> {
+            release.await();
+            return TestDataBuilder.createGetEmployeeResponse();
+        });
+        callers.submit(() -> batcher.load(id));
+        verify(employeeRemoteService, timeout(1000)).getEmployeeById(id);
+        return release;
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.service.remote;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceRemoteException;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
+import com.reliaquest.api.service.remote.dto.GetEmployeeResponseDto;
+import com.reliaquest.api.testutils.TestDataBuilder;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRemoteServiceFallbackTest {
+
+    @Mock
+    private WebClient webClient;
+
+    @Spy
+    private LastKnownGoodRoster lastKnownGoodRoster = new LastKnownGoodRoster();
+
+    @InjectMocks
+    private EmployeeRemoteService employeeRemoteService;
+
+    private final CallNotPermittedException circuitOpen =
+            CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("employeeService"));
+
+    private List<EmployeeDto> roster;
+
+    @BeforeEach
+    void setUp() {
+        roster = TestDataBuilder.createMockEmployeeList();
+    }
+
+    @Test
+    void getAllEmployeesFallback_WithSnapshot_ReturnsStaleRoster() {
+        lastKnownGoodRoster.record(roster);
+
+        GetAllEmployeesResponseDto result =
+                employeeRemoteService.getAllEmployeesFallback(circuitOpen).join();
+
+        assertEquals(3, result.getData().size());
+        assertNotNull(result.getStaleAsOf());
+    }
+
+    @Test
+    void getAllEmployeesFallback_WithoutSnapshot_PropagatesFailure() {
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> employeeRemoteService.getAllEmployeesFallback(circuitOpen).join());
+
+        assertEquals(EmployeeServiceRemoteException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void getEmployeeByIdFallback_WithSnapshot_ReturnsIndexedEmployee() {
+        lastKnownGoodRoster.record(roster);
+        UUID id = roster.get(1).getId();
+
+        GetEmployeeResponseDto result = employeeRemoteService.getEmployeeByIdFallback(id, circuitOpen);
+
+        assertEquals("xyz", result.getData().getEmployeeName());
+        assertNotNull(result.getStaleAsOf());
+    }
+
+    @Test
+    void getEmployeeByIdFallback_NotFound_IsNotMasked() {
+        lastKnownGoodRoster.record(roster);
+        UUID id = roster.get(0).getId();
+
+        assertThrows(
+                EmployeeNotFoundException.class,
+                () -> employeeRemoteService.getEmployeeByIdFallback(
+                        id, new EmployeeNotFoundException("Employee not found")));
+    }
+}
@@ -2,6 +2,8 @@ package com.reliaquest.api.service.remote;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
@@ -12,13 +14,21 @@ import static org.mockito.Mockito.when;
 
 import com.reliaquest.api.config.AppConfig;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
 import com.reliaquest.api.model.EmployeeRequestDto;
 import com.reliaquest.api.service.remote.dto.DeleteEmployeeRequestDto;
 import com.reliaquest.api.service.remote.dto.DeleteEmployeeResponseDto;
 import com.reliaquest.api.service.remote.dto.EmployeeResponseDto;
 import com.reliaquest.api.service.remote.dto.GetAllEmployeesResponseDto;
 import com.reliaquest.api.service.remote.dto.GetEmployeeResponseDto;
+import com.reliaquest.api.service.remote.dto.GetHighestSalaryResponseDto;
+import com.reliaquest.api.service.remote.shard.EmployeeShards;
 import com.reliaquest.api.testutils.TestDataBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Assertions;
@@ -48,6 +58,18 @@ public class EmployeeRemoteServiceTest {
     @Mock
     private AppConfig appConfig;
 
+    @Mock
+    private HedgingPolicy hedgingPolicy;
+
+    @Mock
+    private LastKnownGoodRoster lastKnownGoodRoster;
+
+    @Mock
+    private EmployeeShards employeeShards;
+
+    @Mock
+    private RetryBudget retryBudget;
+
     @Mock
     private WebClient.RequestHeadersSpec requestHeadersSpec;
 
@@ -72,8 +94,8 @@ public class EmployeeRemoteServiceTest {
     @BeforeEach
     void setUp() {
 
-        Mockito.when(appConfig.getEmployeeServiceBaseUrl()).thenReturn(BASE_URL);
-        Mockito.when(appConfig.getEmployeeServiceResourceUrl()).thenReturn(RESOURCE_URL);
+        Mockito.lenient().when(appConfig.getEmployeeServiceBaseUrl()).thenReturn(BASE_URL);
+        Mockito.lenient().when(appConfig.getEmployeeServiceResourceUrl()).thenReturn(RESOURCE_URL);
     }
 
     @Test
@@ -140,6 +162,77 @@ public class EmployeeRemoteServiceTest {
         verify(requestHeadersUriSpec, times(1)).exchangeToMono(any());
     }
 
+    @Test
+    void getHighestSalary_PushedDown_ReturnsRemoteAggregate() {
+        when(employeeShards.getBaseUrls()).thenReturn(List.of(BASE_URL));
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(BASE_URL + RESOURCE_URL + "/aggregates/highestSalary"))
+                .thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.exchangeToMono(any()))
+                .thenReturn(Mono.just(ResponseEntity.ok(new GetHighestSalaryResponseDto(9000, "OK"))));
+
+        assertEquals(OptionalInt.of(9000), employeeRemoteService.getHighestSalary());
+    }
+
+    @Test
+    void getHighestSalary_Unsupported_IsRemembered() {
+        when(employeeShards.getBaseUrls()).thenReturn(List.of(BASE_URL));
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.exchangeToMono(any()))
+                .thenReturn(
+                        Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).build()));
+
+        assertTrue(employeeRemoteService.getHighestSalary().isEmpty());
+        assertTrue(employeeRemoteService.getHighestSalary().isEmpty());
+        verify(webClient, times(1)).get();
+    }
+
+    @Test
+    void searchEmployeesByName_OtherPathUnsupported_IsStillPushedDown() {
+        GetAllEmployeesResponseDto matches = TestDataBuilder.createGetAllEmployeesResponse();
+        when(employeeShards.getBaseUrls()).thenReturn(List.of(BASE_URL));
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(BASE_URL + RESOURCE_URL + "/query/search?name={name}", "a"))
+                .thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.exchangeToMono(any()))
+                .thenReturn(
+                        Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).build()))
+                .thenReturn(Mono.just(ResponseEntity.ok(matches)));
+
+        assertTrue(employeeRemoteService.getHighestSalary().isEmpty());
+        assertEquals(
+                matches.getData(),
+                employeeRemoteService.searchEmployeesByName("a").orElseThrow());
+        verify(webClient, times(2)).get();
+    }
+
+    @Test
+    void getHighestSalaryFallback_RateLimitedWithRoster_ComputesFromRoster() {
+        when(lastKnownGoodRoster.getSnapshot())
+                .thenReturn(Optional.of(new LastKnownGoodRoster.Snapshot(List.of(), Instant.now())));
+
+        assertTrue(employeeRemoteService
+                .getHighestSalaryFallback(TooManyRequestsException.retryAfter(null))
+                .isEmpty());
+        assertTrue(employeeRemoteService
+                .searchEmployeesByNameFallback("a", TooManyRequestsException.retryAfter(null))
+                .isEmpty());
+    }
+
+    @Test
+    void getHighestSalaryFallback_RateLimitedWithoutRoster_PropagatesFailure() {
+        TooManyRequestsException rateLimited = TooManyRequestsException.retryAfter(null);
+        when(lastKnownGoodRoster.getSnapshot()).thenReturn(Optional.empty());
+
+        assertSame(
+                rateLimited,
+                assertThrows(
+                        TooManyRequestsException.class,
+                        () -> employeeRemoteService.getHighestSalaryFallback(rateLimited)));
+    }
+
     @Test
     void getEmployeeById_ValidData_ReturnsSuccess() {
 
@@ -172,6 +265,28 @@ public class EmployeeRemoteServiceTest {
         });
     }
 
+    @Test
+    void getEmployeeById_HedgeRateLimited_PrimarySucceeds() {
+        HedgingPolicy hedging =
+                new HedgingPolicy(true, 100, 95, Duration.ofMillis(10), Duration.ofMillis(1), Duration.ofSeconds(1));
+        EmployeeRemoteService hedgedService = new EmployeeRemoteService(
+                webClient, appConfig, hedging, lastKnownGoodRoster, employeeShards, retryBudget);
+        GetEmployeeResponseDto employee = TestDataBuilder.createGetEmployeeResponse();
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.exchangeToMono(any()))
+                .thenReturn(Mono.delay(Duration.ofMillis(200)).thenReturn(ResponseEntity.ok(employee)))
+                .thenReturn(Mono.just(
+                        ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build()));
+
+        GetEmployeeResponseDto result =
+                hedgedService.getEmployeeById(UUID.fromString("9b4ae777-3df8-41ee-aabd-c603f43487dc"));
+
+        assertSame(employee, result);
+        assertEquals(1, hedging.getHedgesSent());
+        verify(requestHeadersUriSpec, times(2)).exchangeToMono(any());
+    }
+
     @Test
     void deleteEmployeeByName_ValidData_ReturnsSuccess() {
 
@@ -183,7 +298,7 @@ public class EmployeeRemoteServiceTest {
         when(requestBodyUriSpec.body(any(), eq(DeleteEmployeeRequestDto.class))).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.exchangeToMono(Mockito.any())).thenReturn(Mono.just(responseEntity));
 
-        DeleteEmployeeResponseDto result = employeeRemoteService.deleteEmployeeByName("abc");
+        DeleteEmployeeResponseDto result = employeeRemoteService.deleteEmployeeByName("abc", UUID.randomUUID());
 
         assertNotNull(result);
         assertTrue(result.getData());
@@ -0,0 +1,95 @@
+package com.reliaquest.api.service.remote;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class HedgingPolicyTest {
+
+    @Test
+    void hedge_SlowPrimary_ShouldReturnHedgedResponse() {
+        HedgingPolicy policy = policy(100);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> calls.getAndIncrement() == 0
+                ? Mono.delay(Duration.ofSeconds(5)).thenReturn("primary")
+                : Mono.just("hedge"));
+
+        StepVerifier.create(policy.hedge(request))
+                .expectNext("hedge")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        assertEquals(2, calls.get());
+        assertEquals(1, policy.getHedgesSent());
+    }
+
+    @Test
+    void hedge_FastPrimary_ShouldNotSendHedge() {
+        HedgingPolicy policy = policy(100);
+
+        StepVerifier.create(policy.hedge(Mono.just("primary")))
+                .expectNext("primary")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        assertEquals(0, policy.getHedgesSent());
+    }
+
+    @Test
+    void hedge_BudgetExhausted_ShouldWaitForPrimary() {
+        HedgingPolicy policy = policy(0);
+        Mono<String> request = Mono.delay(Duration.ofMillis(200)).thenReturn("primary");
+
+        StepVerifier.create(policy.hedge(request))
+                .expectNext("primary")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        assertEquals(0, policy.getHedgesSent());
+    }
+
+    @Test
+    void hedge_FailingHedge_ShouldWaitForPrimary() {
+        HedgingPolicy policy = policy(100);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> calls.getAndIncrement() == 0
+                ? Mono.delay(Duration.ofMillis(200)).thenReturn("primary")
+                : Mono.error(new IllegalStateException("hedge")));
+
+        StepVerifier.create(policy.hedge(request))
+                .expectNext("primary")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        assertEquals(1, policy.getHedgesSent());
+    }
+
+    @Test
+    void hedge_PrimaryFailsBeforeDelay_ShouldFailWithoutHedge() {
+        HedgingPolicy policy = policy(100);
+
+        StepVerifier.create(policy.hedge(Mono.<String>error(new IllegalStateException("primary"))))
+                .expectErrorMessage("primary")
+                .verify(Duration.ofSeconds(2));
+        assertEquals(0, policy.getHedgesSent());
+    }
+
+    @Test
+    void hedge_BothFail_ShouldPropagatePrimaryError() {
+        HedgingPolicy policy = policy(100);
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> calls.getAndIncrement() == 0
+                ? Mono.delay(Duration.ofMillis(200)).then(Mono.error(new IllegalStateException("primary")))
+                : Mono.error(new IllegalArgumentException("hedge")));
+
+        StepVerifier.create(policy.hedge(request))
+                .expectErrorSatisfies(error -> assertEquals(IllegalStateException.class, error.getClass()))
+                .verify(Duration.ofSeconds(2));
+        assertEquals(1, policy.getHedgesSent());
+    }
+
+    private HedgingPolicy policy(double budgetPercent) {
+        return new HedgingPolicy(
+                true, budgetPercent, 95, Duration.ofMillis(10), Duration.ofMillis(1), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.service.remote;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    @Test
+    void tryAcquire_BudgetSpent_ShouldDenyUntilSuccessesRefillIt() {
+        RetryBudget budget = budget(50);
+        while (budget.tryAcquire()) {
+            // drain the initial balance
+        }
+        assertEquals(1, budget.getRetriesDenied());
+
+        budget.recordSuccess();
+        assertFalse(budget.tryAcquire());
+        budget.recordSuccess();
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void backoffMillis_ShouldStayWithinExponentialCeiling() {
+        RetryBudget budget = budget(10);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(budget.backoffMillis(1, null) <= 200);
+            assertTrue(budget.backoffMillis(3, null) <= 800);
+            assertTrue(budget.backoffMillis(20, null) <= 5000);
+        }
+    }
+
+    @Test
+    void backoffMillis_RetryAfter_ShouldNotRetryEarlier() {
+        RetryBudget budget = budget(10);
+        for (int i = 0; i < 1000; i++) {
+            long delay = budget.backoffMillis(1, Duration.ofSeconds(2));
+            assertTrue(delay >= 2000 && delay <= 2200, "delay " + delay);
+        }
+    }
+
+    @Test
+    void backoffMillis_RetryAfterNearCap_ShouldNotExceedMaxDelay() {
+        RetryBudget budget = budget(10);
+        for (int i = 0; i < 1000; i++) {
+            long delay = budget.backoffMillis(1, Duration.ofMillis(4900));
+            assertTrue(delay >= 4900 && delay <= 5000, "delay " + delay);
+        }
+    }
+
+    @Test
+    void canWait_RetryAfterAboveMaxDelay_ShouldRefuse() {
+        RetryBudget budget = budget(10);
+
+        assertTrue(budget.canWait(null));
+        assertTrue(budget.canWait(Duration.ofSeconds(5)));
+        assertFalse(budget.canWait(Duration.ofSeconds(30)));
+    }
+
+    private static RetryBudget budget(double budgetPercent) {
+        return new RetryBudget(budgetPercent, 0, Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.service.remote.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    /*
+     * Pinned assignments, identical in the api and the mock server copy of this test: the api routes ids with its ring
+     * and the server generates ids with its own, so a change to either ring must fail here.
+     */
+    private static final String[][] ASSIGNMENTS = {
+        // id, shard for 2, 3 and 5 shards
+        {"00000000-0000-0000-0000-000000000000", "1", "2", "2"},
+        {"3f2504e0-4f89-11d3-9a0c-0305e82c3301", "1", "2", "4"},
+        {"6fa459ea-ee8a-3ca4-894e-db77e160355e", "1", "1", "1"},
+        {"9b2a8c41-7d3e-4b6f-a1c2-5e8f0d4b3a17", "0", "2", "3"},
+        {"c56a4180-65aa-42ec-a945-5fd21dec0538", "0", "0", "0"},
+        {"e58ed763-928c-4155-bee9-fdbaaadc15f3", "0", "2", "2"},
+        {"ffffffff-ffff-ffff-ffff-ffffffffffff", "0", "0", "3"},
+        {"123e4567-e89b-12d3-a456-426614174000", "0", "2", "2"}
+    };
+
+    @Test
+    void shardFor_SingleShard_ShouldAlwaysReturnZero() {
+        ConsistentHashRing ring = new ConsistentHashRing(1);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, ring.shardFor(UUID.randomUUID()));
+        }
+    }
+
+    @Test
+    void shardFor_ShouldSpreadIdsAcrossShards() {
+        ConsistentHashRing ring = new ConsistentHashRing(4);
+        int[] counts = new int[4];
+
+        for (int i = 0; i < 40_000; i++) {
+            counts[ring.shardFor(UUID.randomUUID())]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 7_000 && count < 13_000, "Unbalanced shard with " + count + " ids");
+        }
+    }
+
+    @Test
+    void shardFor_AddingShard_ShouldOnlyMoveIdsToNewShard() {
+        ConsistentHashRing three = new ConsistentHashRing(3);
+        ConsistentHashRing four = new ConsistentHashRing(4);
+
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            int after = four.shardFor(id);
+            assertTrue(after == 3 || after == three.shardFor(id));
+        }
+    }
+
+    @Test
+    void shardFor_ShouldMatchPinnedAssignments() {
+        int[] shardCounts = {2, 3, 5};
+        for (String[] assignment : ASSIGNMENTS) {
+            UUID id = UUID.fromString(assignment[0]);
+            for (int i = 0; i < shardCounts.length; i++) {
+                assertEquals(
+                        Integer.parseInt(assignment[i + 1]),
+                        new ConsistentHashRing(shardCounts[i]).shardFor(id),
+                        assignment[0] + " with " + shardCounts[i] + " shards");
+            }
+        }
+    }
+
+    @Test
+    void constructor_NoShards_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(0));
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.service.remote.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopEarnersMergerTest {
+
+    @Test
+    void topOf_ShouldKeepHighestSalariesInDescendingOrder() {
+        List<EmployeeDto> top = TopEarnersMerger.topOf(employees(300, 100, 500, 200, 400), 3);
+
+        assertEquals(List.of(500, 400, 300), salaries(top));
+    }
+
+    @Test
+    void merge_ShouldInterleaveShardsAndApplyLimit() {
+        List<EmployeeDto> merged =
+                TopEarnersMerger.merge(List.of(employees(900, 400, 100), List.of(), employees(800, 700, 300)), 4);
+
+        assertEquals(List.of(900, 800, 700, 400), salaries(merged));
+    }
+
+    @Test
+    void merge_FewerEmployeesThanLimit_ShouldReturnAll() {
+        List<EmployeeDto> merged = TopEarnersMerger.merge(List.of(employees(200), employees(300)), 10);
+
+        assertEquals(List.of(300, 200), salaries(merged));
+    }
+
+    private static List<EmployeeDto> employees(Integer... salaries) {
+        return Arrays.stream(salaries)
+                .map(salary -> EmployeeDto.builder()
+                        .employeeName("Employee " + salary)
+                        .employeeSalary(salary)
+                        .build())
+                .toList();
+    }
+
+    private static List<Integer> salaries(List<EmployeeDto> employees) {
+        return employees.stream().map(EmployeeDto::getEmployeeSalary).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.service.roster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.exception.EmployeeServiceRemoteException;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.remote.EmployeeRemoteService;
+import com.reliaquest.api.service.remote.LastKnownGoodRoster;
+import com.reliaquest.api.testutils.TestDataBuilder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRosterServiceTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2024-05-01T10:15:30.123Z");
+
+    @Mock
+    private EmployeeRemoteService employeeRemoteService;
+
+    @Mock
+    private AppConfig appConfig;
+
+    @TempDir
+    private Path directory;
+
+    private final LastKnownGoodRoster lastKnownGoodRoster = new LastKnownGoodRoster();
+
+    private final List<EmployeeDto> employees = List.of(TestDataBuilder.createMockEmployee());
+
+    private EmployeeRosterService employeeRosterService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        RosterSnapshotStore rosterSnapshotStore = new RosterSnapshotStore(true, directory.resolve("roster.snapshot"));
+        rosterSnapshotStore.write(new EmployeeRoster(1, employees, FETCHED_AT));
+        employeeRosterService =
+                new EmployeeRosterService(employeeRemoteService, appConfig, rosterSnapshotStore, lastKnownGoodRoster);
+    }
+
+    @Test
+    void warmStart_ShouldSeedLastKnownGoodRoster() {
+        employeeRosterService.warmStart();
+
+        LastKnownGoodRoster.Snapshot seeded = lastKnownGoodRoster.getSnapshot().orElseThrow();
+        assertEquals(employees, seeded.getEmployees());
+        assertEquals(FETCHED_AT, seeded.getFetchedAt());
+    }
+
+    @Test
+    void getRoster_ServingSnapshot_ShouldRefreshAtMostOncePerInterval() {
+        when(appConfig.getRosterTtl()).thenReturn(Duration.ofSeconds(30));
+        when(appConfig.getRosterRevalidateInterval()).thenReturn(Duration.ofMinutes(1));
+        when(employeeRemoteService.getAllEmployees())
+                .thenReturn(CompletableFuture.failedFuture(new EmployeeServiceRemoteException("down")));
+        employeeRosterService.warmStart();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(employees, employeeRosterService.getRoster().getEmployees());
+        }
+
+        verify(employeeRemoteService, times(1)).getAllEmployees();
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.service.roster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.EmployeeDto;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotStoreTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2024-05-01T10:15:30.123Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void writtenRosterIsLoadedBack() throws IOException {
+        EmployeeDto complete = new EmployeeDto(UUID.randomUUID(), "Zoë Ågren", 120000, 41, "Engineer", "zoe@x.com");
+        EmployeeDto partial = EmployeeDto.builder().id(UUID.randomUUID()).build();
+        RosterSnapshotStore store = new RosterSnapshotStore(true, directory.resolve("roster.snapshot"));
+
+        store.write(new EmployeeRoster(7, List.of(complete, partial), FETCHED_AT));
+        RosterSnapshotStore.Snapshot snapshot = store.load().orElseThrow();
+
+        assertEquals(List.of(complete, partial), snapshot.employees());
+        assertEquals(FETCHED_AT, snapshot.fetchedAt());
+    }
+
+    @Test
+    void corruptSnapshotIsIgnored() throws IOException {
+        Path file = directory.resolve("roster.snapshot");
+        RosterSnapshotStore store = new RosterSnapshotStore(true, file);
+        store.write(new EmployeeRoster(
+                1,
+                List.of(EmployeeDto.builder()
+                        .id(UUID.randomUUID())
+                        .employeeName("Ann")
+                        .build()),
+                FETCHED_AT));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void truncatedSnapshotIsIgnored() {
+        byte[] encoded = RosterSnapshotStore.encode(
+                        List.of(EmployeeDto.builder().id(UUID.randomUUID()).build()), FETCHED_AT)
+                .array();
+
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertTrue(RosterSnapshotStore.decode(ByteBuffer.wrap(truncated)).isEmpty());
+        }
+    }
+
+    @Test
+    void disabledStoreLoadsNothing() throws IOException {
+        Path file = directory.resolve("roster.snapshot");
+        new RosterSnapshotStore(true, file).write(new EmployeeRoster(1, List.of(), FETCHED_AT));
+
+        assertTrue(new RosterSnapshotStore(false, file).load().isEmpty());
+    }
+}
@@ -3,6 +3,7 @@ package com.reliaquest.api.validator;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.reliaquest.api.exception.InvalidRequestException;
 import com.reliaquest.api.model.EmployeeRequestDto;
 import com.reliaquest.api.testutils.TestDataBuilder;
 import org.junit.jupiter.api.Test;
@@ -23,7 +24,7 @@ public class EmployeeValidatorTest {
         validEmployee.setAge(null);
 
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(validEmployee));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(validEmployee));
     }
 
     @Test
@@ -32,7 +33,7 @@ public class EmployeeValidatorTest {
         belowAge.setAge(15);
 
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(belowAge));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(belowAge));
     }
 
     @Test
@@ -40,7 +41,7 @@ public class EmployeeValidatorTest {
         EmployeeRequestDto aboveAge = TestDataBuilder.createMockCreateEmployeeRequestDto();
         aboveAge.setAge(76);
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(aboveAge));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(aboveAge));
     }
 
     @Test
@@ -48,7 +49,7 @@ public class EmployeeValidatorTest {
         EmployeeRequestDto nullName = TestDataBuilder.createMockCreateEmployeeRequestDto();
         nullName.setName(null);
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(nullName));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(nullName));
     }
 
     @Test
@@ -57,7 +58,7 @@ public class EmployeeValidatorTest {
         emptyName.setName("");
 
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(emptyName));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(emptyName));
     }
 
     @Test
@@ -66,7 +67,7 @@ public class EmployeeValidatorTest {
         nullSalary.setSalary(null);
 
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(nullSalary));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(nullSalary));
     }
 
     @Test
@@ -75,7 +76,7 @@ public class EmployeeValidatorTest {
         zeroSalary.setSalary(0);
 
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(zeroSalary));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(zeroSalary));
     }
 
     @Test
@@ -85,7 +86,7 @@ public class EmployeeValidatorTest {
         negativeSalary.setSalary(-100);
 
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(negativeSalary));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(negativeSalary));
     }
 
     @Test
@@ -93,7 +94,7 @@ public class EmployeeValidatorTest {
         EmployeeRequestDto nullTitle = TestDataBuilder.createMockCreateEmployeeRequestDto();
         nullTitle.setTitle(null);
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(nullTitle));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(nullTitle));
     }
 
     @Test
@@ -102,6 +103,6 @@ public class EmployeeValidatorTest {
         emptyTitle.setTitle("");
 
         Exception exception =
-                assertThrows(IllegalArgumentException.class, () -> validator.validateEmployeeData(emptyTitle));
+                assertThrows(InvalidRequestException.class, () -> validator.validateEmployeeData(emptyTitle));
     }
 }
@@ -0,0 +1,66 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    void onSample_SteadyLatencyAtFullUse_ShouldGrowLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 1.5, 0.2);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(10 * MILLIS, limit.getLimit());
+        }
+
+        assertTrue(limit.getLimit() > 20, "limit " + limit.getLimit());
+    }
+
+    @Test
+    void onSample_RisingLatency_ShouldShrinkLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 4, 200, 1.5, 0.2);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MILLIS, 100);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(100 * MILLIS, limit.getLimit());
+        }
+
+        assertTrue(limit.getLimit() < before / 2, "limit " + limit.getLimit() + " was " + before);
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    void onSample_LowUse_ShouldKeepLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 1.5, 0.2);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(10 * MILLIS, 2);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void tryAcquire_ShouldReserveHeadroomForSmallerShares() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 10, 1.5, 0.2);
+
+        for (int i = 1; i <= 8; i++) {
+            assertEquals(i, limit.tryAcquire(0.8));
+        }
+        assertEquals(0, limit.tryAcquire(0.8));
+        assertEquals(9, limit.tryAcquire(1.0));
+        assertEquals(10, limit.tryAcquire(1.0));
+        assertEquals(0, limit.tryAcquire(1.0));
+
+        limit.release();
+        assertEquals(9, limit.getInFlight());
+        assertEquals(0, limit.tryAcquire(0.8));
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeDto;
+import com.reliaquest.api.service.cache.EmployeeCache;
+import com.reliaquest.api.service.roster.EmployeeRosterService;
+import com.reliaquest.api.testutils.TestDataBuilder;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+
+    @Mock
+    private EmployeeRosterService employeeRosterService;
+
+    private final EmployeeCache employeeCache = new EmployeeCache(true, 100, 0, Duration.ofMinutes(5));
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(
+                employeeRosterService,
+                employeeCache,
+                new ObjectMapper(),
+                true,
+                20,
+                4,
+                200,
+                1.5,
+                0.2,
+                0.8,
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    void isUpstreamBound_FreshRosterGetByIdCacheMiss_ShouldBeUpstreamBound() {
+        lenient().when(employeeRosterService.isFresh()).thenReturn(true);
+
+        assertTrue(filter.isUpstreamBound(get("/api/v1/employee/" + UUID.randomUUID())));
+    }
+
+    @Test
+    void isUpstreamBound_GetByIdCacheHit_ShouldBeLocal() {
+        EmployeeDto employee = TestDataBuilder.createMockEmployee();
+        employeeCache.put(employee);
+
+        assertFalse(filter.isUpstreamBound(get("/api/v1/employee/" + employee.getId())));
+    }
+
+    @Test
+    void isUpstreamBound_FreshRosterPushDownReads_ShouldBeUpstreamBound() {
+        lenient().when(employeeRosterService.isFresh()).thenReturn(true);
+
+        assertTrue(filter.isUpstreamBound(get("/api/v1/employee/highestSalary")));
+        assertTrue(filter.isUpstreamBound(get("/api/v1/employee/topTenHighestEarningEmployeeNames")));
+        assertTrue(filter.isUpstreamBound(get("/api/v1/employee/search/ann")));
+    }
+
+    @Test
+    void isUpstreamBound_RosterReads_ShouldFollowRosterFreshness() {
+        when(employeeRosterService.isFresh()).thenReturn(true, false);
+
+        assertFalse(filter.isUpstreamBound(get("/api/v1/employee/filter")));
+        assertTrue(filter.isUpstreamBound(get("/api/v1/employee/filter")));
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -1,11 +1,16 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.fault.FaultInjectionProperties;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import com.reliaquest.server.shard.ShardOwnership;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -14,13 +19,18 @@ import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(FaultInjectionProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
@@ -31,13 +41,28 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This list is modifiable by design for CRUD operations. When journaling is enabled the roster persisted by a
+     * previous run is recovered instead of generating a new one. When sharded, only ids owned by this shard are
+     * generated.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public List<MockEmployee> mockEmployees(
+            Faker faker,
+            EmployeeJournal employeeJournal,
+            ShardOwnership shardOwnership,
+            @Value("${mock.employees.max:20}") int maxEmployees) {
+        return employeeJournal.recover().orElseGet(() -> {
+            final var generated = generateMockEmployees(faker, shardOwnership, maxEmployees);
+            employeeJournal.compact(generated);
+            return generated;
+        });
+    }
+
+    private static List<MockEmployee> generateMockEmployees(
+            Faker faker, ShardOwnership shardOwnership, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
+                Field.field("id", shardOwnership::newOwnedId),
                 Field.field("name", () -> faker.name().fullName()),
                 Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
                 Field.field("age", () -> faker.number().numberBetween(16, 70)),
@@ -52,8 +77,37 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /*
+     * Binary alternative to JSON for clients that ask for it with Accept: application/x-jackson-smile. Property names
+     * and short values such as titles are back-referenced after their first occurrence, which removes most of the
+     * repeated employee_ prefixes from list payloads. JSON stays first in the converter list and remains the default.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        final var smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(
+                Jackson2ObjectMapperBuilder.smile().factory(smileFactory).build());
+    }
+
+    /*
+     * With lazy initialization (fast-startup profile) the controller and the roster behind it are still created at
+     * startup, so the first request does not pay for generating or recovering the roster.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter employeeRequestPathExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(MockEmployeeController.class);
+    }
+
+    /*
+     * Admin endpoints stay reachable while the employee endpoints are rate limited. The change feed is exempt too:
+     * every (re)connect of a subscriber would otherwise spend the request budget meant for the calls under test.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new RandomRequestLimitInterceptor())
+                .excludePathPatterns("/admin/**", "/api/v1/employee/changes");
     }
 }
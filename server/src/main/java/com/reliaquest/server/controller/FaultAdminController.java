@@ -0,0 +1,53 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultProfile;
+import com.reliaquest.server.model.Response;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Runtime control of injected faults. Durations are ISO-8601, e.g. {@code "PT0.25S"}.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<List<FaultProfile>> getProfiles() {
+        return Response.handledWith(faultInjector.getProfiles());
+    }
+
+    @PutMapping()
+    public Response<List<FaultProfile>> replaceProfiles(@RequestBody List<FaultProfile> profiles) {
+        faultInjector.setProfiles(profiles);
+        return Response.handledWith(faultInjector.getProfiles());
+    }
+
+    @DeleteMapping()
+    public Response<List<FaultProfile>> clearProfiles() {
+        faultInjector.setProfiles(List.of());
+        return Response.handledWith(faultInjector.getProfiles());
+    }
+
+    /*
+     * Profile validation runs in the record constructors, so invalid profiles surface as unreadable bodies.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    protected ResponseEntity<Response<?>> handleInvalidProfiles(HttpMessageNotReadableException ex) {
+        return ResponseEntity.badRequest()
+                .body(Response.error(ex.getMostSpecificCause().getMessage()));
+    }
+}
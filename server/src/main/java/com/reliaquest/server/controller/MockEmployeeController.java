@@ -1,36 +1,51 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.feed.EmployeeChangeFeed;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.FindMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final int MAX_TOP_EARNERS = 1000;
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeFeed employeeChangeFeed;
 
     @GetMapping()
     public Response<List<MockEmployee>> getEmployees() {
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return employeeChangeFeed.subscribe(lastEventId);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
@@ -39,6 +54,39 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * Aggregates and filters are evaluated here, next to the data, so that callers do not need the whole roster for
+     * them. The highest salary is left out of the response when there are no employees.
+     */
+    @GetMapping("/aggregates/highestSalary")
+    public Response<Integer> getHighestSalary() {
+        OptionalInt highestSalary = mockEmployeeService.highestSalary();
+        return highestSalary.isPresent() ? Response.handledWith(highestSalary.getAsInt()) : Response.handled();
+    }
+
+    @GetMapping("/aggregates/topEarners")
+    public ResponseEntity<Response<List<MockEmployee>>> getTopEarners(
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_TOP_EARNERS) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("limit must be between 1 and " + MAX_TOP_EARNERS + ". Provided: " + limit));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.topEarners(limit)));
+    }
+
+    @GetMapping("/query/search")
+    public ResponseEntity<Response<List<MockEmployee>>> searchEmployees(@RequestParam("name") String name) {
+        if (name.isBlank()) {
+            return ResponseEntity.badRequest().body(Response.error("name must not be blank"));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.searchByName(name)));
+    }
+
+    @PostMapping("/ids")
+    public Response<List<MockEmployee>> findEmployees(@Valid @RequestBody FindMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.findByIds(input.getIds()));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
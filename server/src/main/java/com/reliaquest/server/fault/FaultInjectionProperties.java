@@ -0,0 +1,15 @@
+package com.reliaquest.server.fault;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Fault profiles applied from startup. The first profile matching a request wins.
+ */
+@ConfigurationProperties("mock.faults")
+public record FaultInjectionProperties(List<FaultProfile> profiles) {
+
+    public FaultInjectionProperties {
+        profiles = profiles == null ? List.of() : List.copyOf(profiles);
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.server.fault;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Active fault profiles. Starts from {@code mock.faults.profiles} and can be replaced at runtime through
+ * {@code /admin/faults}, so a benchmark can change conditions without restarting the server.
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    private volatile List<FaultProfile> profiles;
+
+    public FaultInjector(FaultInjectionProperties properties) {
+        this.profiles = properties.profiles();
+        if (!profiles.isEmpty()) {
+            log.warn("Injecting faults with {} profiles", profiles.size());
+        }
+    }
+
+    public List<FaultProfile> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(List<FaultProfile> profiles) {
+        this.profiles = List.copyOf(profiles);
+        log.warn("Fault profiles replaced: {}", this.profiles);
+    }
+
+    public Optional<FaultProfile> match(String method, String path) {
+        final var current = profiles;
+        for (FaultProfile profile : current) {
+            if (profile.matches(method, path)) {
+                return Optional.of(profile);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,149 @@
+package com.reliaquest.server.fault;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Misbehavior injected into requests that match {@code method} (any when absent) and the Ant-style {@code path}.
+ *
+ * @param latency delay before the request is handled, none when absent
+ * @param errorRate share of requests, between 0 and 1, answered with {@code errorStatus} instead of being handled
+ * @param errorStatus status of injected errors, 500 when absent
+ * @param resetRate share of requests, between 0 and 1, whose response is cut off after the headers
+ * @param slowBody trickles the response body to the client, none when absent
+ */
+public record FaultProfile(
+        String method,
+        String path,
+        Latency latency,
+        double errorRate,
+        Integer errorStatus,
+        double resetRate,
+        SlowBody slowBody) {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    public FaultProfile {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Fault profile path is required");
+        }
+        requireRate("errorRate", errorRate);
+        requireRate("resetRate", resetRate);
+        if (errorStatus != null && (errorStatus < 400 || errorStatus > 599)) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status. Provided: " + errorStatus);
+        }
+    }
+
+    public boolean matches(String requestMethod, String requestPath) {
+        return (method == null || method.equalsIgnoreCase(requestMethod)) && PATH_MATCHER.match(path, requestPath);
+    }
+
+    /**
+     * Whether a request gets an injected error instead of being handled, drawn from {@code random}.
+     */
+    public boolean sampleError(RandomGenerator random) {
+        return random.nextDouble() < errorRate;
+    }
+
+    /**
+     * Whether a request gets its response cut off after the headers, drawn from {@code random}.
+     */
+    public boolean sampleReset(RandomGenerator random) {
+        return random.nextDouble() < resetRate;
+    }
+
+    public int errorStatusOrDefault() {
+        return errorStatus == null ? 500 : errorStatus;
+    }
+
+    private static void requireRate(String name, double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1. Provided: " + rate);
+        }
+    }
+
+    /**
+     * Latency distribution.
+     * <ul>
+     *   <li>{@code FIXED}: always {@code value}.</li>
+     *   <li>{@code NORMAL}: {@code mean} plus gaussian noise with {@code stddev}, never below zero.</li>
+     *   <li>{@code PARETO}: long tail starting at {@code scale}; a smaller {@code shape} makes the tail heavier.</li>
+     * </ul>
+     * Samples are capped at {@code max} when it is set, which must not be below {@code value}, {@code mean} or
+     * {@code scale} respectively.
+     */
+    public record Latency(
+            Distribution distribution,
+            Duration value,
+            Duration mean,
+            Duration stddev,
+            Duration scale,
+            Double shape,
+            Duration max) {
+
+        public Latency {
+            if (distribution == null) {
+                throw new IllegalArgumentException("Latency distribution is required");
+            }
+            switch (distribution) {
+                case FIXED -> requirePresent(distribution, "value", value);
+                case NORMAL -> {
+                    requirePresent(distribution, "mean", mean);
+                    requirePresent(distribution, "stddev", stddev);
+                }
+                case PARETO -> {
+                    requirePresent(distribution, "scale", scale);
+                    if (shape == null || shape <= 0) {
+                        throw new IllegalArgumentException("PARETO latency requires a positive shape");
+                    }
+                }
+            }
+            Duration base =
+                    switch (distribution) {
+                        case FIXED -> value;
+                        case NORMAL -> mean;
+                        case PARETO -> scale;
+                    };
+            if (max != null && max.compareTo(base) < 0) {
+                throw new IllegalArgumentException(
+                        distribution + " latency max must not be below " + base + ". Provided: " + max);
+            }
+        }
+
+        public long sampleNanos(RandomGenerator random) {
+            long nanos =
+                    switch (distribution) {
+                        case FIXED -> value.toNanos();
+                        case NORMAL -> Math.max(
+                                0, Math.round(mean.toNanos() + random.nextGaussian() * stddev.toNanos()));
+                        case PARETO -> Math.round(scale.toNanos() / Math.pow(1 - random.nextDouble(), 1 / shape));
+                    };
+            return max == null ? nanos : Math.min(nanos, max.toNanos());
+        }
+
+        private static void requirePresent(Distribution distribution, String name, Duration duration) {
+            if (duration == null || duration.isNegative()) {
+                throw new IllegalArgumentException(distribution + " latency requires a non-negative " + name);
+            }
+        }
+    }
+
+    public enum Distribution {
+        FIXED,
+        NORMAL,
+        PARETO
+    }
+
+    /**
+     * Writes the response body {@code chunkSize} bytes at a time with {@code chunkDelay} between chunks.
+     */
+    public record SlowBody(int chunkSize, Duration chunkDelay) {
+
+        public SlowBody {
+            if (chunkSize <= 0 || chunkDelay == null || chunkDelay.isNegative()) {
+                throw new IllegalArgumentException("Slow body requires a positive chunkSize and a chunkDelay");
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.reliaquest.server.feed;
+
+import com.reliaquest.server.model.EmployeeChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent events stream of roster mutations.
+ * <p>
+ * Events are numbered and the most recent ones are kept in a replay buffer, so a subscriber reconnecting with
+ * {@code Last-Event-ID} receives what it missed. Event ids are {@code <epoch>:<sequence>} with the epoch taken at
+ * startup; when the gap is no longer in the buffer, or the id belongs to an earlier run, a {@code reset} event tells
+ * the subscriber to fetch the full roster again. All sends happen on a single dispatcher thread, which keeps events in
+ * sequence order and keeps slow subscribers off request threads.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeFeed implements DisposableBean {
+
+    static final String OPEN_EVENT = "open";
+
+    static final String RESET_EVENT = "reset";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final int replayCapacity;
+
+    private final Duration emitterTimeout;
+
+    private final ArrayDeque<EmployeeChangeEvent> replay;
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long sequence;
+
+    public EmployeeChangeFeed(
+            @Value("${mock.change-feed.replay-capacity:1024}") int replayCapacity,
+            @Value("${mock.change-feed.timeout:30m}") Duration emitterTimeout,
+            @Value("${mock.change-feed.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.replayCapacity = replayCapacity;
+        this.emitterTimeout = emitterTimeout;
+        this.replay = new ArrayDeque<>(replayCapacity);
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes a creation. Callers hold the service lock so sequence numbers follow the order of mutations.
+     */
+    public void publishCreated(MockEmployee employee) {
+        publish(EmployeeChangeEvent.created(nextSequence(), employee));
+    }
+
+    public void publishDeleted(UUID id) {
+        publish(EmployeeChangeEvent.deleted(nextSequence(), id));
+    }
+
+    /**
+     * Registers a new subscriber.
+     *
+     * @param lastEventId id of the last event the subscriber has seen, or null for a fresh subscription
+     * @return emitter streaming events after {@code lastEventId}
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(emitter));
+        dispatcher.execute(() -> {
+            if (!open(emitter, lastEventId == null)) {
+                return;
+            }
+            if (lastEventId != null && !replayFrom(emitter, lastEventId)) {
+                return;
+            }
+            subscribers.add(emitter);
+        });
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+    }
+
+    private synchronized long nextSequence() {
+        return ++sequence;
+    }
+
+    private synchronized long currentSequence() {
+        return sequence;
+    }
+
+    private String eventId(long eventSequence) {
+        return epoch + ':' + eventSequence;
+    }
+
+    /**
+     * Sequence number of an event id issued by this run, or -1 when the id is malformed or from another run.
+     */
+    private long parseSequence(String eventId) {
+        int separator = eventId.indexOf(':');
+        if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId, separator + 1, eventId.length(), 10);
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private void publish(EmployeeChangeEvent event) {
+        dispatcher.execute(() -> {
+            if (replay.size() == replayCapacity) {
+                replay.removeFirst();
+            }
+            replay.addLast(event);
+            subscribers.forEach(emitter -> send(emitter, event));
+        });
+    }
+
+    /**
+     * Commits the response so subscribers know they are connected. Fresh subscribers are also told the current
+     * position; events still queued behind it may be delivered again, which applying them tolerates.
+     */
+    private boolean open(SseEmitter emitter, boolean fresh) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(OPEN_EVENT).data("");
+        if (fresh) {
+            event.id(eventId(currentSequence()));
+        }
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    /*
+     * Runs on the dispatcher, so the replay buffer cannot change underneath.
+     */
+    private boolean replayFrom(SseEmitter emitter, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        long latest = currentSequence();
+        EmployeeChangeEvent oldest = replay.peekFirst();
+        if (lastSequence < 0 || lastSequence > latest || (oldest != null && oldest.sequence() > lastSequence + 1)) {
+            log.debug("Subscriber at {} cannot be replayed from the buffer, sending reset", lastEventId);
+            try {
+                emitter.send(
+                        SseEmitter.event().id(eventId(latest)).name(RESET_EVENT).data(""));
+                return true;
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+                return false;
+            }
+        }
+        for (EmployeeChangeEvent event : replay) {
+            if (event.sequence() > lastSequence && !send(emitter, event)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean send(SseEmitter emitter, EmployeeChangeEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(eventId(event.sequence()))
+                    .name(event.type().name().toLowerCase())
+                    .data(event, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(ex);
+            return false;
+        }
+    }
+
+    private void heartbeat() {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException ex) {
+                subscribers.remove(emitter);
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
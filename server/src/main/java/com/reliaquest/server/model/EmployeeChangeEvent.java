@@ -0,0 +1,24 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * A single roster mutation as published on the change feed. {@code employee} is only set for creations.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeChangeEvent(long sequence, Type type, UUID id, MockEmployee employee) {
+
+    public static EmployeeChangeEvent created(long sequence, MockEmployee employee) {
+        return new EmployeeChangeEvent(sequence, Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangeEvent deleted(long sequence, UUID id) {
+        return new EmployeeChangeEvent(sequence, Type.DELETED, id, null);
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
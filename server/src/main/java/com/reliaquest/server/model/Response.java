@@ -2,9 +2,12 @@ package com.reliaquest.server.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.reliaquest.server.model.json.ResponseSerializer;
 import lombok.Getter;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = ResponseSerializer.class)
 public record Response<T>(T data, Status status, String error) {
 
     public static <T> Response<T> handled() {
@@ -0,0 +1,66 @@
+package com.reliaquest.server.model.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes {@link MockEmployee} with pre-encoded, already prefixed field names instead of running the naming strategy
+ * over introspected bean properties. The output is the same as bean serialization. Ids are written with
+ * {@link UUID#toString()}, whose JDK implementation formats straight into the resulting string.
+ */
+public class MockEmployeeSerializer extends StdSerializer<MockEmployee> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("employee_name");
+    private static final SerializedString SALARY = new SerializedString("employee_salary");
+    private static final SerializedString AGE = new SerializedString("employee_age");
+    private static final SerializedString TITLE = new SerializedString("employee_title");
+    private static final SerializedString EMAIL = new SerializedString("employee_email");
+
+    public MockEmployeeSerializer() {
+        super(MockEmployee.class);
+    }
+
+    @Override
+    public void serialize(MockEmployee employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(employee, gen);
+    }
+
+    public static void write(MockEmployee employee, JsonGenerator gen) throws IOException {
+        gen.writeStartObject(employee);
+        gen.writeFieldName(ID);
+        writeUuid(employee.getId(), gen);
+        gen.writeFieldName(NAME);
+        gen.writeString(employee.getName());
+        gen.writeFieldName(SALARY);
+        writeInteger(employee.getSalary(), gen);
+        gen.writeFieldName(AGE);
+        writeInteger(employee.getAge(), gen);
+        gen.writeFieldName(TITLE);
+        gen.writeString(employee.getTitle());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(employee.getEmail());
+        gen.writeEndObject();
+    }
+
+    private static void writeUuid(UUID id, JsonGenerator gen) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(id.toString());
+        }
+    }
+
+    private static void writeInteger(Integer value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.model.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes the {@link Response} envelope, omitting null members. Employee lists, the bulk of the traffic, are written
+ * inline with {@link MockEmployeeSerializer}; other payloads go through the regular serializers.
+ */
+@SuppressWarnings("rawtypes")
+public class ResponseSerializer extends StdSerializer<Response> {
+
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString HANDLED = new SerializedString(Response.Status.HANDLED.getValue());
+    private static final SerializedString FAILED = new SerializedString(Response.Status.ERROR.getValue());
+
+    public ResponseSerializer() {
+        super(Response.class);
+    }
+
+    @Override
+    public void serialize(Response response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+        Object data = response.data();
+        if (data != null) {
+            gen.writeFieldName(DATA);
+            writeData(data, gen, provider);
+        }
+        if (response.status() != null) {
+            gen.writeFieldName(STATUS);
+            gen.writeString(response.status() == Response.Status.HANDLED ? HANDLED : FAILED);
+        }
+        if (response.error() != null) {
+            gen.writeFieldName(ERROR);
+            gen.writeString(response.error());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeData(Object data, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (data instanceof MockEmployee employee) {
+            MockEmployeeSerializer.write(employee, gen);
+        } else if (data instanceof List<?> list) {
+            gen.writeStartArray(list, list.size());
+            for (Object element : list) {
+                if (element instanceof MockEmployee employee) {
+                    MockEmployeeSerializer.write(employee, gen);
+                } else {
+                    provider.defaultSerializeValue(element, gen);
+                }
+            }
+            gen.writeEndArray();
+        } else {
+            provider.defaultSerializeValue(data, gen);
+        }
+    }
+}
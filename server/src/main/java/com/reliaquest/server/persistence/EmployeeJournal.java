@@ -0,0 +1,467 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only write-ahead log of employee creates and deletes.
+ * <p>
+ * Mutations are encoded into an in-memory batch and made durable by a single flusher thread which writes and fsyncs
+ * everything that accumulated during one group commit interval, so concurrent writers share one fsync. Once enough
+ * records have been appended the roster is compacted into a snapshot and the log is cut back to the records appended
+ * after the snapshot was taken. On startup the last snapshot is loaded and the log is replayed through a read-only
+ * memory mapping; a torn or corrupt tail is discarded.
+ */
+@Slf4j
+@Component
+public class EmployeeJournal implements DisposableBean {
+
+    private static final String LOG_FILE = "employees.log";
+    private static final String SNAPSHOT_FILE = "employees.snapshot";
+    private static final int SNAPSHOT_MAGIC = 0x524F5354;
+    private static final int FORMAT_VERSION = 1;
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES * 2;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private static final byte CREATE = 1;
+    private static final byte DELETE = 2;
+
+    private final boolean enabled;
+    private final Path logFile;
+    private final Path snapshotFile;
+    private final Duration groupCommitInterval;
+    private final int compactionThreshold;
+
+    private final Object batchLock = new Object();
+    private final Object ioLock = new Object();
+    private ByteArrayOutputStream batch = new ByteArrayOutputStream();
+    private List<CompletableFuture<Void>> batchCommits = new ArrayList<>();
+
+    private FileChannel channel;
+    private ScheduledExecutorService flusher;
+    private int recordsSinceSnapshot;
+
+    /*
+     * Bytes appended since the journal was opened, including the unflushed batch, and the offset in that sequence at
+     * which the current log file starts. Both are guarded by batchLock.
+     */
+    private long appendedBytes;
+    private long logStart;
+    private boolean compacting;
+
+    public EmployeeJournal(
+            @Value("${mock.employees.journal.enabled:false}") boolean enabled,
+            @Value("${mock.employees.journal.directory:data}") String directory,
+            @Value("${mock.employees.journal.group-commit-interval:5ms}") Duration groupCommitInterval,
+            @Value("${mock.employees.journal.compaction-threshold:10000}") int compactionThreshold) {
+        this.enabled = enabled;
+        this.logFile = Path.of(directory, LOG_FILE);
+        this.snapshotFile = Path.of(directory, SNAPSHOT_FILE);
+        this.groupCommitInterval = groupCommitInterval;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Rebuilds the roster from the last snapshot plus the log, or returns empty when nothing was persisted yet.
+     */
+    public Optional<List<MockEmployee>> recover() {
+        if (!enabled || (!Files.exists(snapshotFile) && !Files.exists(logFile))) {
+            return Optional.empty();
+        }
+        try {
+            final var employees = new LinkedHashMap<UUID, MockEmployee>();
+            if (Files.exists(snapshotFile)) {
+                readSnapshot(employees);
+            }
+            long validLength = 0;
+            if (Files.exists(logFile)) {
+                validLength = replayLog(employees);
+            }
+            open(validLength);
+            log.info(
+                    "Recovered {} employees from journal ({} log records since snapshot)",
+                    employees.size(),
+                    recordsSinceSnapshot);
+            return Optional.of(new ArrayList<>(employees.values()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover employee journal", e);
+        }
+    }
+
+    public CompletableFuture<Void> appendCreate(@NonNull MockEmployee employee) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final var payload = ByteBuffer.allocate(encodedSize(employee) + 1);
+        payload.put(CREATE);
+        writeEmployee(payload, employee);
+        return append(payload.array());
+    }
+
+    public CompletableFuture<Void> appendDelete(@NonNull UUID id) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final var payload = ByteBuffer.allocate(1 + Long.BYTES * 2);
+        payload.put(DELETE);
+        writeUuid(payload, id);
+        return append(payload.array());
+    }
+
+    /**
+     * Marks the end of the records appended so far when enough of them accumulated and no compaction is running. Call
+     * it together with copying the roster, under the same lock that orders appends, and pass both to
+     * {@link #compact(List, Checkpoint)}.
+     */
+    public Optional<Checkpoint> checkpointIfDue() {
+        synchronized (batchLock) {
+            if (!enabled || compacting || recordsSinceSnapshot < compactionThreshold) {
+                return Optional.empty();
+            }
+            compacting = true;
+            return Optional.of(new Checkpoint(appendedBytes, recordsSinceSnapshot));
+        }
+    }
+
+    /**
+     * Writes {@code roster} as the new snapshot and truncates the log. The caller must guarantee that every record
+     * appended so far is reflected in {@code roster} and that nothing is appended concurrently.
+     */
+    public void compact(@NonNull List<MockEmployee> roster) {
+        if (!enabled) {
+            return;
+        }
+        final Checkpoint checkpoint;
+        synchronized (batchLock) {
+            compacting = true;
+            checkpoint = new Checkpoint(appendedBytes, recordsSinceSnapshot);
+        }
+        compact(roster, checkpoint);
+    }
+
+    /**
+     * Writes {@code roster} as the new snapshot and drops the log records before {@code checkpoint}, which
+     * {@code roster} must reflect. Records appended after the checkpoint are kept and replayed on top of the snapshot.
+     * Does not need to be called under the lock that orders appends.
+     */
+    public void compact(@NonNull List<MockEmployee> roster, @NonNull Checkpoint checkpoint) {
+        try {
+            synchronized (ioLock) {
+                if (channel == null) {
+                    open(0);
+                }
+                flushBatch();
+                writeSnapshot(roster);
+                final long tailStart;
+                synchronized (batchLock) {
+                    tailStart = checkpoint.offset() - logStart;
+                }
+                cutLog(tailStart);
+                synchronized (batchLock) {
+                    logStart = checkpoint.offset();
+                    recordsSinceSnapshot -= checkpoint.records();
+                }
+                log.info("Compacted employee journal into snapshot of {} employees", roster.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact employee journal", e);
+        } finally {
+            synchronized (batchLock) {
+                compacting = false;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        synchronized (ioLock) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                flushBatch();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close employee journal cleanly", e);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> append(byte[] payload) {
+        final var crc = new CRC32();
+        crc.update(payload);
+        final var header =
+                ByteBuffer.allocate(RECORD_HEADER_BYTES).putInt(payload.length).putInt((int) crc.getValue());
+        final var commit = new CompletableFuture<Void>();
+        synchronized (batchLock) {
+            batch.writeBytes(header.array());
+            batch.writeBytes(payload);
+            batchCommits.add(commit);
+            recordsSinceSnapshot++;
+            appendedBytes += RECORD_HEADER_BYTES + payload.length;
+        }
+        return commit;
+    }
+
+    private void open(long validLength) throws IOException {
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        channel =
+                FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() > validLength) {
+            log.warn("Discarding {} bytes of torn journal tail", channel.size() - validLength);
+            channel.truncate(validLength);
+        }
+        channel.position(validLength);
+        synchronized (batchLock) {
+            appendedBytes = validLength;
+            logStart = 0;
+        }
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "employee-journal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final var intervalNanos = Math.max(1, groupCommitInterval.toNanos());
+            flusher.scheduleWithFixedDelay(this::groupCommit, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void groupCommit() {
+        synchronized (ioLock) {
+            try {
+                flushBatch();
+            } catch (IOException e) {
+                log.error("Group commit of employee journal failed", e);
+            }
+        }
+    }
+
+    /*
+     * Must be called holding ioLock. Failed commits are reported to their writers and the records are dropped.
+     */
+    private void flushBatch() throws IOException {
+        final ByteBuffer bytes;
+        final List<CompletableFuture<Void>> commits;
+        synchronized (batchLock) {
+            if (batchCommits.isEmpty()) {
+                return;
+            }
+            bytes = ByteBuffer.wrap(batch.toByteArray());
+            commits = batchCommits;
+            batch = new ByteArrayOutputStream();
+            batchCommits = new ArrayList<>();
+        }
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            commits.forEach(commit -> commit.completeExceptionally(e));
+            throw e;
+        }
+        commits.forEach(commit -> commit.complete(null));
+    }
+
+    /*
+     * Must be called holding ioLock after a flush. Replaces the log with the records from tailStart onwards; the new
+     * log is written beside the old one and moved over it so a crash leaves one of the two intact.
+     */
+    private void cutLog(long tailStart) throws IOException {
+        final var tail = ByteBuffer.allocate(Math.toIntExact(channel.size() - tailStart));
+        while (tail.hasRemaining()) {
+            channel.read(tail, tailStart + tail.position());
+        }
+        tail.flip();
+        final var tmp = logFile.resolveSibling(LOG_FILE + ".tmp");
+        try (var out = FileChannel.open(
+                tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (tail.hasRemaining()) {
+                out.write(tail);
+            }
+            out.force(true);
+        }
+        Files.move(tmp, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel.close();
+        channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+    }
+
+    private long replayLog(Map<UUID, MockEmployee> employees) throws IOException {
+        try (var readChannel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            final var size = readChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Employee journal exceeds mappable size, compaction threshold is too high");
+            }
+            final MappedByteBuffer mapped = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final var crc = new CRC32();
+            int records = 0;
+            while (mapped.remaining() >= RECORD_HEADER_BYTES) {
+                final var start = mapped.position();
+                final var length = mapped.getInt();
+                final var checksum = mapped.getInt();
+                if (length <= 0 || length > mapped.remaining()) {
+                    mapped.position(start);
+                    break;
+                }
+                final var payload = mapped.slice(mapped.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    mapped.position(start);
+                    break;
+                }
+                mapped.position(mapped.position() + length);
+                apply(payload, employees);
+                records++;
+            }
+            recordsSinceSnapshot = records;
+            return mapped.position();
+        }
+    }
+
+    private void apply(ByteBuffer payload, Map<UUID, MockEmployee> employees) {
+        final var type = payload.get();
+        if (type == CREATE) {
+            final var employee = readEmployee(payload);
+            employees.put(employee.getId(), employee);
+        } else if (type == DELETE) {
+            employees.remove(readUuid(payload));
+        } else {
+            log.warn("Skipping unknown journal record type {}", type);
+        }
+    }
+
+    private void readSnapshot(Map<UUID, MockEmployee> employees) throws IOException {
+        final var buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("Unrecognised employee snapshot format: " + snapshotFile);
+        }
+        final var count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            final var employee = readEmployee(buffer);
+            employees.put(employee.getId(), employee);
+        }
+    }
+
+    private void writeSnapshot(List<MockEmployee> roster) throws IOException {
+        int size = Integer.BYTES * 3;
+        for (MockEmployee employee : roster) {
+            size += encodedSize(employee);
+        }
+        final var buffer = ByteBuffer.allocate(size)
+                .putInt(SNAPSHOT_MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(roster.size());
+        roster.forEach(employee -> writeEmployee(buffer, employee));
+        buffer.flip();
+
+        final var tmp = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (var out = FileChannel.open(
+                tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int encodedSize(MockEmployee employee) {
+        return Long.BYTES * 2
+                + Integer.BYTES * 2
+                + encodedSize(employee.getName())
+                + encodedSize(employee.getTitle())
+                + encodedSize(employee.getEmail());
+    }
+
+    private static int encodedSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void writeEmployee(ByteBuffer buffer, MockEmployee employee) {
+        writeUuid(buffer, employee.getId());
+        buffer.putInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        buffer.putInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        writeString(buffer, employee.getName());
+        writeString(buffer, employee.getTitle());
+        writeString(buffer, employee.getEmail());
+    }
+
+    private static MockEmployee readEmployee(ByteBuffer buffer) {
+        final var id = readUuid(buffer);
+        final var salary = buffer.getInt();
+        final var age = buffer.getInt();
+        return MockEmployee.builder()
+                .id(id)
+                .salary(salary == NULL_INT ? null : salary)
+                .age(age == NULL_INT ? null : age)
+                .name(readString(buffer))
+                .title(readString(buffer))
+                .email(readString(buffer))
+                .build();
+    }
+
+    private static void writeUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Position in the log up to which a roster copy reflects every appended record.
+     */
+    public record Checkpoint(long offset, int records) {}
+}
@@ -1,58 +1,212 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.feed.EmployeeChangeFeed;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import com.reliaquest.server.shard.ShardOwnership;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
+    private static final Comparator<MockEmployee> BY_SALARY_DESC =
+            Comparator.comparing(MockEmployee::getSalary, Comparator.nullsLast(Comparator.reverseOrder()));
+
     private final Faker faker;
+    private final EmployeeJournal employeeJournal;
+    private final ShardOwnership shardOwnership;
+    private final EmployeeChangeFeed employeeChangeFeed;
 
     @Getter
     private final List<MockEmployee> mockEmployees;
 
+    /*
+     * Id index over mockEmployees, updated together with the list under the service lock and read without it.
+     */
+    private final Map<UUID, MockEmployee> employeesById = new ConcurrentHashMap<>();
+
+    public MockEmployeeService(
+            Faker faker,
+            EmployeeJournal employeeJournal,
+            ShardOwnership shardOwnership,
+            EmployeeChangeFeed employeeChangeFeed,
+            List<MockEmployee> mockEmployees) {
+        this.faker = faker;
+        this.employeeJournal = employeeJournal;
+        this.shardOwnership = shardOwnership;
+        this.employeeChangeFeed = employeeChangeFeed;
+        this.mockEmployees = mockEmployees;
+        mockEmployees.stream()
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId()))
+                .forEach(mockEmployee -> employeesById.put(mockEmployee.getId(), mockEmployee));
+    }
+
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return Optional.ofNullable(employeesById.get(uuid));
+    }
+
+    /**
+     * Looks up several employees at once. Unknown ids are skipped, duplicates are returned once.
+     */
+    public List<MockEmployee> findByIds(@NonNull Collection<UUID> uuids) {
+        return uuids.stream()
+                .distinct()
+                .map(employeesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public OptionalInt highestSalary() {
+        return snapshot().stream()
+                .map(MockEmployee::getSalary)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .max();
+    }
+
+    /**
+     * Highest earners ordered by descending salary, employees without a salary last.
+     */
+    public List<MockEmployee> topEarners(int limit) {
+        return snapshot().stream().sorted(BY_SALARY_DESC).limit(limit).toList();
+    }
+
+    /**
+     * Employees whose name contains {@code fragment}, ignoring case.
+     */
+    public List<MockEmployee> searchByName(@NonNull String fragment) {
+        final String needle = fragment.toLowerCase(Locale.ROOT);
+        return snapshot().stream()
+                .filter(employee -> Objects.nonNull(employee.getName())
+                        && employee.getName().toLowerCase(Locale.ROOT).contains(needle))
+                .toList();
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
+                shardOwnership.newOwnedId(),
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        final CompletableFuture<Void> commit;
+        final Optional<Compaction> compaction;
+        synchronized (this) {
+            mockEmployees.add(mockEmployee);
+            employeesById.put(mockEmployee.getId(), mockEmployee);
+            commit = employeeJournal.appendCreate(mockEmployee);
+            commit.thenRun(() -> employeeChangeFeed.publishCreated(mockEmployee));
+            compaction = compactionIfDue();
+        }
+        try {
+            awaitCommit(commit, () -> {
+                mockEmployees.remove(mockEmployee);
+                employeesById.remove(mockEmployee.getId());
+            });
+        } finally {
+            compaction.ifPresent(this::compactJournal);
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
+        final Optional<MockEmployee> mockEmployee;
+        final CompletableFuture<Void> commit;
+        final Optional<Compaction> compaction;
+        synchronized (this) {
+            mockEmployee = mockEmployees.stream()
+                    .filter(employee -> Objects.nonNull(employee.getName())
+                            && employee.getName().equalsIgnoreCase(input.getName()))
+                    .findFirst();
+            if (mockEmployee.isEmpty()) {
+                return false;
+            }
             mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+            employeesById.remove(mockEmployee.get().getId());
+            commit = employeeJournal.appendDelete(mockEmployee.get().getId());
+            commit.thenRun(
+                    () -> employeeChangeFeed.publishDeleted(mockEmployee.get().getId()));
+            compaction = compactionIfDue();
+        }
+        try {
+            awaitCommit(commit, () -> {
+                mockEmployees.add(mockEmployee.get());
+                employeesById.put(mockEmployee.get().getId(), mockEmployee.get());
+            });
+        } finally {
+            compaction.ifPresent(this::compactJournal);
+        }
+        log.debug("Removed employee: {}", mockEmployee.get());
+        return true;
+    }
+
+    /*
+     * Changes are applied in memory when they are appended, so that the journal and the roster see them in the same
+     * order, and are published from the commit callback, which runs in append order and only once they are durable.
+     * A change whose commit fails is undone here and never published.
+     */
+    private void awaitCommit(CompletableFuture<Void> commit, Runnable rollback) {
+        try {
+            commit.join();
+        } catch (CompletionException e) {
+            synchronized (this) {
+                rollback.run();
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * Queries scan a copy taken under the service lock so that concurrent creates and deletes cannot break them.
+     */
+    private List<MockEmployee> snapshot() {
+        synchronized (this) {
+            return List.copyOf(mockEmployees);
         }
+    }
 
-        return false;
+    /*
+     * Called while holding the service lock so the copy reflects every record before the checkpoint. The snapshot is
+     * written afterwards, outside the lock, so creates and deletes are not stalled behind it.
+     */
+    private Optional<Compaction> compactionIfDue() {
+        return employeeJournal
+                .checkpointIfDue()
+                .map(checkpoint -> new Compaction(List.copyOf(mockEmployees), checkpoint));
     }
+
+    /*
+     * Runs after the write it was due for has been confirmed, so a failure is only logged: the log keeps every record
+     * and compaction is attempted again on the next write.
+     */
+    private void compactJournal(Compaction compaction) {
+        try {
+            employeeJournal.compact(compaction.roster(), compaction.checkpoint());
+        } catch (UncheckedIOException e) {
+            log.error("Compaction of employee journal failed", e);
+        }
+    }
+
+    private record Compaction(List<MockEmployee> roster, EmployeeJournal.Checkpoint checkpoint) {}
 }
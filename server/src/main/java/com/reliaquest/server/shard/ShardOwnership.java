@@ -0,0 +1,49 @@
+package com.reliaquest.server.shard;
+
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Which ids this instance owns when the roster is split across several mock servers. Ids are drawn at random until
+ * one hashes to this shard on the {@link ConsistentHashRing}, so the api can route point operations by id alone.
+ */
+@Slf4j
+@Getter
+@Component
+public class ShardOwnership {
+
+    private final int shardIndex;
+
+    private final int shardCount;
+
+    private final ConsistentHashRing ring;
+
+    public ShardOwnership(
+            @Value("${mock.shard.index:0}") int shardIndex, @Value("${mock.shard.count:1}") int shardCount) {
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    "mock.shard.index must be between 0 and " + (shardCount - 1) + ". Provided: " + shardIndex);
+        }
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.ring = new ConsistentHashRing(shardCount);
+        if (shardCount > 1) {
+            log.info("Serving shard {} of {}", shardIndex, shardCount);
+        }
+    }
+
+    public boolean owns(UUID id) {
+        return shardCount == 1 || ring.shardFor(id) == shardIndex;
+    }
+
+    public UUID newOwnedId() {
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (!owns(id));
+        return id;
+    }
+}
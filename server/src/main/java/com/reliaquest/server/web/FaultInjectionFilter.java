@@ -0,0 +1,103 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultProfile;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Applies the {@link FaultInjector} profile matching each request: latency first, then either an injected error, a
+ * response cut off after its headers, or the handled response, optionally trickled to the client.
+ * <p>
+ * A cut-off response announces a longer {@code Content-Length} than it sends and closes the connection, which the
+ * client sees as a connection closed mid-response. Admin endpoints and the change feed stream are never affected.
+ */
+@Component
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final int CUT_OFF_CONTENT_LENGTH = 1024;
+
+    private final FaultInjector faultInjector;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        final var path = request.getRequestURI();
+        return path.startsWith("/admin/") || path.endsWith("/changes");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var profile = faultInjector.match(request.getMethod(), request.getRequestURI());
+        if (profile.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var fault = profile.get();
+        final var random = ThreadLocalRandom.current();
+        if (fault.latency() != null) {
+            sleep(fault.latency().sampleNanos(random));
+        }
+        if (fault.sampleError(random)) {
+            response.setStatus(fault.errorStatusOrDefault());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault"));
+            return;
+        }
+        if (fault.sampleReset(random)) {
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(CUT_OFF_CONTENT_LENGTH);
+            response.getOutputStream().write('{');
+            response.flushBuffer();
+            return;
+        }
+        if (fault.slowBody() == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+        trickle(buffered.getContentAsByteArray(), fault.slowBody(), response);
+    }
+
+    private static void trickle(byte[] body, FaultProfile.SlowBody slowBody, HttpServletResponse response)
+            throws IOException {
+        response.setContentLength(body.length);
+        final var out = response.getOutputStream();
+        final var delayNanos = slowBody.chunkDelay().toNanos();
+        for (int offset = 0; offset < body.length; offset += slowBody.chunkSize()) {
+            if (offset > 0) {
+                sleep(delayNanos);
+            }
+            out.write(body, offset, Math.min(slowBody.chunkSize(), body.length - offset));
+            out.flush();
+        }
+    }
+
+    private static void sleep(long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.server.fault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.fault.FaultProfile.Distribution;
+import com.reliaquest.server.fault.FaultProfile.Latency;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class FaultProfileTest {
+
+    @Test
+    void ratesOutsideZeroToOneAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> profile(-0.1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> profile(1.1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> profile(0, -0.1, null));
+        assertThrows(IllegalArgumentException.class, () -> profile(0, 1.1, null));
+    }
+
+    @Test
+    void latencyMaxBelowItsBaseIsRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Latency(Distribution.FIXED, ms(50), null, null, null, null, ms(40)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Latency(Distribution.NORMAL, null, ms(50), ms(10), null, null, ms(40)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Latency(Distribution.PARETO, null, null, null, ms(50), 1.5, ms(40)));
+    }
+
+    @Test
+    void latencyIsSampledFromItsDistributionAndCappedAtMax() {
+        final var normal = new Latency(Distribution.NORMAL, null, ms(100), ms(10), null, null, null);
+        final var pareto = new Latency(Distribution.PARETO, null, null, null, ms(10), 1.0, null);
+        final var cappedPareto = new Latency(Distribution.PARETO, null, null, null, ms(10), 1.0, ms(30));
+
+        assertEquals(ms(120).toNanos(), normal.sampleNanos(fixed(0, 2.0)));
+        assertEquals(0, normal.sampleNanos(fixed(0, -20.0)));
+        assertEquals(ms(40).toNanos(), pareto.sampleNanos(fixed(0.75, 0)));
+        assertEquals(ms(30).toNanos(), cappedPareto.sampleNanos(fixed(0.75, 0)));
+    }
+
+    @Test
+    void errorsAreInjectedAtTheConfiguredRate() {
+        final var profile = profile(0.3, 0, null);
+
+        assertTrue(profile.sampleError(fixed(0.29, 0)));
+        assertFalse(profile.sampleError(fixed(0.3, 0)));
+        assertFalse(profile.sampleReset(fixed(0, 0)));
+
+        final var random = new SplittableRandom(42);
+        int errors = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (profile.sampleError(random)) {
+                errors++;
+            }
+        }
+        assertEquals(3_000, errors, 200);
+    }
+
+    private static FaultProfile profile(double errorRate, double resetRate, Latency latency) {
+        return new FaultProfile("GET", "/api/v1/employee/**", latency, errorRate, null, resetRate, null);
+    }
+
+    private static Duration ms(long millis) {
+        return Duration.ofMillis(millis);
+    }
+
+    /**
+     * Random source returning the same uniform and gaussian draw every time.
+     */
+    private static RandomGenerator fixed(double uniform, double gaussian) {
+        return new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public double nextDouble() {
+                return uniform;
+            }
+
+            @Override
+            public double nextGaussian() {
+                return gaussian;
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.model.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeJsonTest {
+
+    /*
+     * Wire format read by the api, whose EmployeeJsonTest pins the same document.
+     */
+    private static final String EMPLOYEE_JSON = "{\"id\":\"5255f1a5-f9f7-4be5-829a-134bde088d17\","
+            + "\"employee_name\":\"Bill Bob\",\"employee_salary\":89750,\"employee_age\":24,"
+            + "\"employee_title\":\"Documentation Engineer\",\"employee_email\":\"billBob@company.com\"}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final SmileMapper smileMapper = new SmileMapper();
+
+    /*
+     * Bean (reflective) binding of the same classes, used as the reference output.
+     */
+    private final ObjectMapper reflectiveMapper = new ObjectMapper()
+            .addMixIn(MockEmployee.class, ReflectiveBinding.class)
+            .addMixIn(Response.class, ReflectiveBinding.class);
+
+    private final MockEmployee employee = MockEmployee.builder()
+            .id(UUID.fromString("5255f1a5-f9f7-4be5-829a-134bde088d17"))
+            .name("Bill Bob")
+            .salary(89750)
+            .age(24)
+            .title("Documentation Engineer")
+            .email("billBob@company.com")
+            .build();
+
+    @Test
+    void serialize_ShouldMatchApiWireFormatInJsonAndSmile() throws Exception {
+        assertEquals(mapper.readTree(EMPLOYEE_JSON), mapper.readTree(mapper.writeValueAsBytes(employee)));
+        assertEquals(mapper.readTree(EMPLOYEE_JSON), smileMapper.readTree(smileMapper.writeValueAsBytes(employee)));
+    }
+
+    @Test
+    void serialize_ShouldMatchReflectiveBinding() throws Exception {
+        MockEmployee sparse = MockEmployee.builder().name("abc").build();
+
+        for (MockEmployee value : List.of(employee, sparse)) {
+            assertEquals(
+                    reflectiveMapper.readTree(reflectiveMapper.writeValueAsBytes(value)),
+                    mapper.readTree(mapper.writeValueAsBytes(value)));
+        }
+    }
+
+    @Test
+    void response_ShouldMatchReflectiveBindingInJsonAndSmile() throws Exception {
+        List<Response<?>> responses = List.of(
+                Response.handledWith(Arrays.asList(
+                        employee, MockEmployee.builder().name("abc").build())),
+                Response.handledWith(employee),
+                Response.handledWith(true),
+                Response.handled(),
+                Response.error("boom"));
+
+        for (Response<?> response : responses) {
+            JsonNode expected = reflectiveMapper.readTree(reflectiveMapper.writeValueAsBytes(response));
+            assertEquals(expected, mapper.readTree(mapper.writeValueAsBytes(response)));
+            assertEquals(expected, smileMapper.readTree(smileMapper.writeValueAsBytes(response)));
+        }
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class ReflectiveBinding {}
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeJournalTest {
+
+    private static final MockEmployee ANN = employee("Ann", 50000);
+    private static final MockEmployee BOB = employee("Bob", 60000);
+    private static final MockEmployee CARA = employee("Cara", 70000);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void appendedRecordsAreReplayedAfterRestart() {
+        final var journal = journal(100);
+        journal.compact(List.of());
+        journal.appendCreate(ANN).join();
+        journal.appendCreate(BOB).join();
+        journal.appendDelete(ANN.getId()).join();
+        journal.destroy();
+
+        assertEquals(List.of(BOB), journal(100).recover().orElseThrow());
+    }
+
+    @Test
+    void tornLastRecordIsDiscarded() throws IOException {
+        final var journal = journal(100);
+        journal.compact(List.of());
+        journal.appendCreate(ANN).join();
+        journal.appendCreate(BOB).join();
+        journal.destroy();
+        final var log = directory.resolve("employees.log");
+        final var bytes = Files.readAllBytes(log);
+        Files.write(log, Arrays.copyOf(bytes, bytes.length - 3));
+
+        final var recovered = journal(100);
+        assertEquals(List.of(ANN), recovered.recover().orElseThrow());
+        recovered.appendCreate(CARA).join();
+        recovered.destroy();
+
+        assertEquals(List.of(ANN, CARA), journal(100).recover().orElseThrow());
+    }
+
+    @Test
+    void corruptLastRecordIsDiscarded() throws IOException {
+        final var journal = journal(100);
+        journal.compact(List.of());
+        journal.appendCreate(ANN).join();
+        journal.appendCreate(BOB).join();
+        journal.destroy();
+        final var log = directory.resolve("employees.log");
+        final var bytes = Files.readAllBytes(log);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(log, bytes);
+
+        assertEquals(List.of(ANN), journal(100).recover().orElseThrow());
+    }
+
+    @Test
+    void recordsAppendedAfterCheckpointSurviveCompactionAndRestart() {
+        final var journal = journal(2);
+        journal.compact(List.of());
+        journal.appendCreate(ANN).join();
+        assertTrue(journal.checkpointIfDue().isEmpty());
+        journal.appendCreate(BOB).join();
+        final var checkpoint = journal.checkpointIfDue().orElseThrow();
+        assertTrue(journal.checkpointIfDue().isEmpty());
+        journal.appendCreate(CARA).join();
+        journal.compact(List.of(ANN, BOB), checkpoint);
+        journal.destroy();
+
+        final var recovered = journal(2);
+        assertEquals(List.of(ANN, BOB, CARA), recovered.recover().orElseThrow());
+        assertTrue(recovered.checkpointIfDue().isEmpty());
+        recovered.appendDelete(BOB.getId()).join();
+        recovered.destroy();
+
+        assertEquals(List.of(ANN, CARA), journal(2).recover().orElseThrow());
+    }
+
+    @Test
+    void disabledJournalRecoversNothing() {
+        final var journal = journal(100);
+        journal.compact(List.of(ANN));
+        journal.destroy();
+
+        assertTrue(new EmployeeJournal(false, directory.toString(), Duration.ofMillis(1), 100)
+                .recover()
+                .isEmpty());
+    }
+
+    private EmployeeJournal journal(int compactionThreshold) {
+        return new EmployeeJournal(true, directory.toString(), Duration.ofMillis(1), compactionThreshold);
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.server.feed.EmployeeChangeFeed;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import com.reliaquest.server.shard.ShardOwnership;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private final EmployeeJournal journal = mock(EmployeeJournal.class);
+    private final EmployeeChangeFeed changeFeed = mock(EmployeeChangeFeed.class);
+    private final MockEmployeeService service =
+            new MockEmployeeService(new Faker(), journal, new ShardOwnership(0, 1), changeFeed, new ArrayList<>());
+
+    @Test
+    void failedCommitIsRolledBackAndNotPublished() {
+        when(journal.appendCreate(any())).thenReturn(CompletableFuture.failedFuture(new IOException("fsync failed")));
+
+        assertThrows(CompletionException.class, () -> service.create(input("Ann")));
+
+        assertTrue(service.getMockEmployees().isEmpty());
+        assertTrue(service.searchByName("Ann").isEmpty());
+        verifyNoInteractions(changeFeed);
+    }
+
+    @Test
+    void failedCompactionDoesNotFailDurableCreate() {
+        when(journal.appendCreate(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(journal.checkpointIfDue()).thenReturn(Optional.of(new EmployeeJournal.Checkpoint(0, 1)));
+        doThrow(new UncheckedIOException(new IOException("disk full")))
+                .when(journal)
+                .compact(any(), any());
+
+        final var created = service.create(input("Ann"));
+
+        assertEquals(created, service.findById(created.getId()).orElseThrow());
+        verify(changeFeed).publishCreated(created);
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
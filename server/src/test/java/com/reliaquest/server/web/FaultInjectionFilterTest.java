@@ -0,0 +1,56 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.fault.FaultInjectionProperties;
+import com.reliaquest.server.fault.FaultInjector;
+import com.reliaquest.server.fault.FaultProfile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private final FaultInjector faultInjector = new FaultInjector(new FaultInjectionProperties(List.of(
+            new FaultProfile("POST", "/api/v1/employee", null, 1.0, 503, 0, null),
+            new FaultProfile(null, "/api/v1/employee/**", null, 1.0, null, 0, null))));
+
+    private final FaultInjectionFilter filter = new FaultInjectionFilter(faultInjector, new ObjectMapper());
+
+    @Test
+    void firstMatchingProfileAnswersWithItsErrorStatus() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/employee"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void errorStatusDefaultsTo500() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee/42"), response, new MockFilterChain());
+
+        assertEquals(500, response.getStatus());
+    }
+
+    @Test
+    void requestsWithoutProfileOrOnTheChangeFeedAreHandled() throws Exception {
+        for (String path : List.of("/health", "/api/v1/employee/changes")) {
+            final var request = new MockHttpServletRequest("GET", path);
+            final var chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertSame(request, chain.getRequest(), path);
+        }
+    }
+}